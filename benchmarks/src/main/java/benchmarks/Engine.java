@@ -0,0 +1,103 @@
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+// The simulator's classes live in the unnamed package, which named packages (and therefore JMH,
+// which rejects benchmarks in the default package) cannot import. This bridge binds the engine
+// entry points once through method handles; the call overhead is negligible next to a run.
+final class Engine {
+    private static final MethodHandle NEW_TABLE;
+    private static final MethodHandle ADD;
+    private static final MethodHandle ADD_WITH_DEADLINE;
+    private static final MethodHandle FCFS;
+    private static final MethodHandle SJF;
+    private static final MethodHandle PRIORITY;
+    private static final MethodHandle SRTF;
+    private static final MethodHandle PREEMPTIVE_PRIORITY;
+    private static final MethodHandle EDF;
+    private static final MethodHandle PREEMPTIVE_EDF;
+    private static final MethodHandle MLFQ;
+    private static final MethodHandle CFS;
+    private static final MethodHandle ROUND_ROBIN;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> table = Class.forName("ProcessTable");
+            Class<?> result = Class.forName("SchedulingResult");
+            Class<?> algorithms = Class.forName("SchedulingAlgorithms");
+
+            NEW_TABLE = lookup.findConstructor(table, MethodType.methodType(void.class, int.class))
+                    .asType(MethodType.methodType(Object.class, int.class));
+            ADD = lookup.findVirtual(table, "add", MethodType.methodType(void.class, int.class, int.class, int.class, int.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class, int.class, int.class));
+            ADD_WITH_DEADLINE = lookup.findVirtual(table, "add",
+                    MethodType.methodType(void.class, int.class, int.class, int.class, int.class, int.class))
+                    .asType(MethodType.methodType(void.class, Object.class, int.class, int.class, int.class, int.class, int.class));
+            FCFS = bind(lookup, algorithms, "fcfs", result, table);
+            SJF = bind(lookup, algorithms, "sjf", result, table);
+            PRIORITY = bind(lookup, algorithms, "priorityScheduling", result, table);
+            SRTF = bind(lookup, algorithms, "srtf", result, table);
+            PREEMPTIVE_PRIORITY = bind(lookup, algorithms, "preemptivePriority", result, table);
+            EDF = bind(lookup, algorithms, "edf", result, table);
+            PREEMPTIVE_EDF = bind(lookup, algorithms, "preemptiveEdf", result, table);
+            // MLFQ and CFS run with the GUI defaults and return their wrapper results
+            Class<?> mlfqResult = Class.forName("MlfqResult");
+            MLFQ = MethodHandles.insertArguments(
+                    lookup.findStatic(algorithms, "mlfq", MethodType.methodType(mlfqResult, table, int[].class, int.class)),
+                    1, algorithms.getField("DEFAULT_MLFQ_QUANTA").get(null), algorithms.getField("DEFAULT_MLFQ_BOOST_INTERVAL").get(null))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            Class<?> cfsResult = Class.forName("CfsResult");
+            CFS = MethodHandles.insertArguments(
+                    lookup.findStatic(algorithms, "cfs", MethodType.methodType(cfsResult, table, int.class, int.class)),
+                    1, algorithms.getField("DEFAULT_CFS_TARGET_LATENCY").get(null), algorithms.getField("DEFAULT_CFS_MIN_GRANULARITY").get(null))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            ROUND_ROBIN = lookup.findStatic(algorithms, "roundRobin", MethodType.methodType(result, table, int.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle bind(MethodHandles.Lookup lookup, Class<?> owner, String name,
+            Class<?> result, Class<?> table) throws ReflectiveOperationException {
+        return lookup.findStatic(owner, name, MethodType.methodType(result, table))
+                .asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    private Engine() {
+    }
+
+    static Object newTable(int capacity) throws Throwable {
+        return NEW_TABLE.invokeExact(capacity);
+    }
+
+    static void add(Object table, int id, int arrivalTime, int burstTime, int priority) throws Throwable {
+        ADD.invokeExact(table, id, arrivalTime, burstTime, priority);
+    }
+
+    static void add(Object table, int id, int arrivalTime, int burstTime, int priority, int deadline) throws Throwable {
+        ADD_WITH_DEADLINE.invokeExact(table, id, arrivalTime, burstTime, priority, deadline);
+    }
+
+    static Object run(String algorithm, Object table) throws Throwable {
+        switch (algorithm) {
+            case "FCFS": return FCFS.invokeExact(table);
+            case "SJF": return SJF.invokeExact(table);
+            case "Priority": return PRIORITY.invokeExact(table);
+            case "SRTF": return SRTF.invokeExact(table);
+            case "PreemptivePriority": return PREEMPTIVE_PRIORITY.invokeExact(table);
+            case "EDF": return EDF.invokeExact(table);
+            case "PreemptiveEDF": return PREEMPTIVE_EDF.invokeExact(table);
+            case "MLFQ": return MLFQ.invokeExact(table);
+            case "CFS": return CFS.invokeExact(table);
+            default: throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+    }
+
+    static Object roundRobin(Object table, int timeQuantum) throws Throwable {
+        return ROUND_ROBIN.invokeExact(table, timeQuantum);
+    }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import java.util.Locale;
+
+// Size sweep for the heap-backed ready queues: times whole runs from 1e3 to 1e7 processes and
+// prints the cost per n*log2(n), which stays roughly flat when a run grows as O(n log n) and
+// climbs with n if a linear scan or front removal creeps back in. Quicker to read than the JMH
+// matrix and repeatable from the shaded jar:
+//
+//   java -Xmx4g -cp benchmarks/target/benchmarks.jar benchmarks.ScalingRun [sizes] [algorithms] [arrivals]
+//
+// Each argument is a comma-separated list; the defaults are 1e3..1e7, SJF,Priority,CFS,RR and
+// UNIFORM,ZERO. Algorithms are Engine.run names plus RR, Round Robin with the quantum of 4 that
+// puts it next to CFS's 3-unit minimum slice. Every size gets one warm-up run and the best of
+// the timed runs is reported.
+// Growth is measured against the cheapest smaller size, so a slow warm-up at 1e3 cannot hide a
+// regression. Exits with status 1 if any size costs more than MAX_GROWTH times that per
+// n*log2(n); mvn verify runs it up to 1e6 so super-linear growth fails the build.
+public class ScalingRun {
+    private static final String DEFAULT_SIZES = "1000,10000,100000,1000000,10000000";
+    private static final String DEFAULT_ALGORITHMS = "SJF,Priority,CFS,RR";
+    private static final int RR_QUANTUM = 4;
+    private static final String DEFAULT_ARRIVALS = "UNIFORM,ZERO";
+    // Headroom for cache misses once the columns outgrow the last-level cache
+    private static final double MAX_GROWTH = 3.0;
+    // Timed runs per size aim for roughly this many processes in total
+    private static final long PROCESSES_PER_SIZE = 20_000_000L;
+
+    public static void main(String[] args) throws Throwable {
+        int[] sizes = parseSizes(args.length > 0 ? args[0] : DEFAULT_SIZES);
+        String[] algorithms = (args.length > 1 ? args[1] : DEFAULT_ALGORITHMS).split(",");
+        String[] arrivals = (args.length > 2 ? args[2] : DEFAULT_ARRIVALS).split(",");
+
+        boolean linearLog = true;
+        System.out.printf("%-18s %-8s %10s %12s %14s %10s%n",
+                "Algorithm", "Arrivals", "Processes", "Best (ms)", "ns/(n log2 n)", "Growth");
+        for (String algorithm : algorithms) {
+            for (String arrival : arrivals) {
+                double cheapest = Double.MAX_VALUE;
+                for (int size : sizes) {
+                    Object table = Workloads.create(size, arrival, 42, algorithm.contains("EDF"));
+                    run(algorithm, table);
+                    long best = Long.MAX_VALUE;
+                    long runs = Math.max(1, Math.min(50, PROCESSES_PER_SIZE / size));
+                    for (long r = 0; r < runs; r++) {
+                        long start = System.nanoTime();
+                        run(algorithm, table);
+                        best = Math.min(best, System.nanoTime() - start);
+                    }
+                    double cost = best / (size * Math.max(1, Math.log(size) / Math.log(2)));
+                    cheapest = Math.min(cheapest, cost);
+                    double growth = cost / cheapest;
+                    linearLog &= growth <= MAX_GROWTH;
+                    System.out.printf(Locale.ROOT, "%-18s %-8s %10d %12.2f %14.3f %9.2fx%n",
+                            algorithm, arrival, size, best / 1e6, cost, growth);
+                }
+            }
+        }
+        if (!linearLog) {
+            System.out.printf(Locale.ROOT, "Cost per n*log2(n) grew by more than %.1fx across the sweep%n", MAX_GROWTH);
+            System.exit(1);
+        }
+    }
+
+    private static Object run(String algorithm, Object table) throws Throwable {
+        return algorithm.equals("RR") ? Engine.roundRobin(table, RR_QUANTUM) : Engine.run(algorithm, table);
+    }
+
+    private static int[] parseSizes(String text) {
+        String[] parts = text.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = (int) Double.parseDouble(parts[i].trim());
+            if (sizes[i] <= 0 || (i > 0 && sizes[i] <= sizes[i - 1])) {
+                throw new IllegalArgumentException("Sizes must be positive and increasing: " + text);
+            }
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,46 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// One full run of a non-Round-Robin algorithm per operation, including the arrival sort and result rows.
+// MLFQ and CFS run with the simulator's default settings; the EDF workloads carry deadlines.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SchedulerBenchmark {
+    @Param({"FCFS", "SJF", "Priority", "SRTF", "PreemptivePriority", "EDF", "PreemptiveEDF", "MLFQ", "CFS"})
+    public String algorithm;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ZERO", "UNIFORM", "BURSTY"})
+    public String arrivals;
+
+    private Object table;
+
+    @Setup(Level.Trial)
+    public void createWorkload() throws Throwable {
+        table = Workloads.create(size, arrivals, 42, algorithm.contains("EDF"));
+    }
+
+    @Benchmark
+    public Object schedule() throws Throwable {
+        return Engine.run(algorithm, table);
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import java.util.SplittableRandom;
+
+// Seeded benchmark workloads. Bursts are uniform in [1, 20] and priorities in [0, 2]; the arrival
+// distribution is the variable under test:
+//   ZERO    - every process arrives at time 0 (the ready queue holds the whole workload)
+//   UNIFORM - arrivals spread uniformly over size * 100 / 9 time units, so with the mean burst
+//             of 10.5 the CPU is about 94.5% loaded
+//   BURSTY  - groups of up to 1000 processes arrive at the same instant, then the CPU drains
+// Workloads for the deadline policies also give every process a deadline of 2 to 10 times its
+// burst after arrival; the other columns are drawn as without deadlines.
+final class Workloads {
+    private static final int MEAN_BURST = 10;
+
+    private Workloads() {
+    }
+
+    static Object create(int size, String arrivals, long seed) throws Throwable {
+        return create(size, arrivals, seed, false);
+    }
+
+    static Object create(int size, String arrivals, long seed, boolean deadlines) throws Throwable {
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom slack = new SplittableRandom(seed + 1);
+        Object table = Engine.newTable(size);
+        long span = (long) size * MEAN_BURST * 10 / 9;
+        int burstStart = 0;
+        for (int i = 0; i < size; i++) {
+            int arrivalTime;
+            switch (arrivals) {
+                case "ZERO":
+                    arrivalTime = 0;
+                    break;
+                case "UNIFORM":
+                    arrivalTime = (int) Math.min(Integer.MAX_VALUE / 2, random.nextLong(span));
+                    break;
+                case "BURSTY":
+                    if (i % 1000 == 0) {
+                        burstStart = (int) Math.min(Integer.MAX_VALUE / 2, (long) i * MEAN_BURST * 10 / 9);
+                    }
+                    arrivalTime = burstStart + random.nextInt(10);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown arrival distribution " + arrivals);
+            }
+            int burstTime = 1 + random.nextInt(20);
+            int priority = random.nextInt(3);
+            if (deadlines) {
+                Engine.add(table, i, arrivalTime, burstTime, priority, burstTime * (2 + slack.nextInt(9)));
+            } else {
+                Engine.add(table, i, arrivalTime, burstTime, priority);
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,67 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Runs every algorithm on the same workload in parallel: FCFS, SJF, Priority, SRTF,
+// preemptive Priority, MLFQ, CFS, EDF, preemptive EDF and Round Robin once per quantum.
+// The ProcessTable and its arrival order are shared read-only between the runs, and each run
+// keeps only aggregates, so the comparison costs one sort plus the slowest single algorithm.
+public class AlgorithmComparison {
+    // Runs besides the Round Robin ones, one per quantum
+    static final int FIXED_RUNS = 9;
+
+    public static SchedulingResult[] runAll(ProcessTable table, int[] timeQuanta) {
+        return runAll(table, timeQuanta, null, ForkJoinPool.commonPool());
+    }
+
+    public static SchedulingResult[] runAll(ProcessTable table, int[] timeQuanta, ForkJoinPool pool) {
+        return runAll(table, timeQuanta, null, pool);
+    }
+
+    // Each run checkpoints into its own share of monitor (may be null), so the monitor's
+    // progress is summed over all of them
+    public static SchedulingResult[] runAll(ProcessTable table, int[] timeQuanta, RunMonitor monitor) {
+        return runAll(table, timeQuanta, monitor, ForkJoinPool.commonPool());
+    }
+
+    public static SchedulingResult[] runAll(ProcessTable table, int[] timeQuanta, RunMonitor monitor, ForkJoinPool pool) {
+        int[] order = table.arrivalOrder();
+
+        List<Callable<SchedulingResult>> runs = new ArrayList<>();
+        runs.add(() -> SchedulingAlgorithms.fcfs(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.sjf(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.priorityScheduling(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.srtf(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.preemptivePriority(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.mlfq(table.source(order), null, SchedulingAlgorithms.DEFAULT_MLFQ_QUANTA,
+                SchedulingAlgorithms.DEFAULT_MLFQ_BOOST_INTERVAL, RunMonitor.share(monitor)).getResult());
+        runs.add(() -> SchedulingAlgorithms.cfs(table.source(order), null, SchedulingAlgorithms.DEFAULT_CFS_TARGET_LATENCY,
+                SchedulingAlgorithms.DEFAULT_CFS_MIN_GRANULARITY, RunMonitor.share(monitor)).getResult());
+        runs.add(() -> SchedulingAlgorithms.edf(table.source(order), null, RunMonitor.share(monitor)));
+        runs.add(() -> SchedulingAlgorithms.preemptiveEdf(table.source(order), null, RunMonitor.share(monitor)));
+        for (int timeQuantum : timeQuanta) {
+            runs.add(() -> SchedulingAlgorithms.roundRobin(table.source(order), null, timeQuantum, RunMonitor.share(monitor)));
+        }
+
+        List<Future<SchedulingResult>> futures = pool.invokeAll(runs);
+        SchedulingResult[] results = new SchedulingResult[futures.size()];
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Comparison interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
+            }
+            throw new IllegalStateException("Comparison run failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+}
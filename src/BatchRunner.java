@@ -0,0 +1,375 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Headless batch mode: runs the chosen algorithms over workload files and prints one summary
+// line per run as CSV on standard output. Nothing here touches java.awt or javax.swing, so it
+// starts quickly and runs on machines without a display.
+//
+//   java -cp cpu-scheduling-simulator.jar BatchRunner [options] <workload>...
+//
+// Workloads are arrival-sorted CSV traces, binary ".cpw" traces, "test:<name>" for a test saved
+// from the GUI, or "gen:<processes>[:<seed>]" for a generated workload (with deadlines if
+// --deadline-slack is given). Every run streams its workload, so only
+// aggregates are held in memory unless row output is requested.
+public class BatchRunner {
+    private static final String[] ALL_ALGORITHMS = {"fcfs", "sjf", "priority", "srtf", "ppriority", "rr", "mlfq", "cfs", "edf", "pedf"};
+    private static final String SUMMARY_HEADER = "Workload,Algorithm,Processes,End Time,Total CPU Burst,Avg. Turnaround,"
+            + "Avg. Waiting,Throughput,CPU Utilization (%),Waiting p50,Waiting p90,Waiting p99,Waiting p99.9,Waiting Max,"
+            + "Response p99,Turnaround p99,Deadlines,Deadline Misses,Miss Ratio (%),Lateness p99,Lateness Max,Elapsed (ms)";
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args, System.out, System.err));
+        } catch (IllegalArgumentException e) {
+            System.err.println("error: " + e.getMessage());
+            System.err.println("Run with --help for usage.");
+            System.exit(2);
+        }
+    }
+
+    // Returns the process exit status: 0 when every run succeeded, 1 otherwise
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        List<String> algorithms = new ArrayList<>(Arrays.asList(ALL_ALGORITHMS));
+        int[] timeQuanta = {4};
+        int[] levelQuanta = SchedulingAlgorithms.DEFAULT_MLFQ_QUANTA;
+        int boostInterval = SchedulingAlgorithms.DEFAULT_MLFQ_BOOST_INTERVAL;
+        int[] cfs = {SchedulingAlgorithms.DEFAULT_CFS_TARGET_LATENCY, SchedulingAlgorithms.DEFAULT_CFS_MIN_GRANULARITY};
+        Path outputDirectory = null;
+        boolean columnar = false;
+        Path storeDirectory = TestStore.defaultDirectory();
+        double[] deadlineSlack = null;
+        List<String> workloads = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "-h":
+                case "--help":
+                    printUsage(out);
+                    return 0;
+                case "-a":
+                case "--algorithms":
+                    String list = value(args, ++i, arg);
+                    algorithms = list.equals("all") ? new ArrayList<>(Arrays.asList(ALL_ALGORITHMS))
+                            : new ArrayList<>(Arrays.asList(list.split(",")));
+                    for (String algorithm : algorithms) {
+                        if (!Arrays.asList(ALL_ALGORITHMS).contains(algorithm)) {
+                            throw new IllegalArgumentException("unknown algorithm " + algorithm);
+                        }
+                    }
+                    break;
+                case "-q":
+                case "--quantum":
+                    timeQuanta = positiveInts(value(args, ++i, arg), arg);
+                    break;
+                case "--mlfq":
+                    String[] mlfq = value(args, ++i, arg).split(",");
+                    if (mlfq.length < levelQuanta.length || mlfq.length > levelQuanta.length + 1) {
+                        throw new IllegalArgumentException("--mlfq takes " + levelQuanta.length + " level quanta and an optional boost interval");
+                    }
+                    int levels = levelQuanta.length;
+                    levelQuanta = positiveInts(String.join(",", Arrays.copyOf(mlfq, levels)), arg);
+                    if (mlfq.length > levels) {
+                        boostInterval = nonNegativeInt(mlfq[levels], arg + " boost interval");
+                    }
+                    break;
+                case "--cfs":
+                    int[] cfsSettings = positiveInts(value(args, ++i, arg), arg);
+                    if (cfsSettings.length > cfs.length) {
+                        throw new IllegalArgumentException("--cfs takes a target latency and an optional minimum granularity");
+                    }
+                    System.arraycopy(cfsSettings, 0, cfs, 0, cfsSettings.length);
+                    break;
+                case "-o":
+                case "--output":
+                    outputDirectory = Paths.get(value(args, ++i, arg));
+                    break;
+                case "--format":
+                    String format = value(args, ++i, arg);
+                    if (!format.equals("csv") && !format.equals("bin")) {
+                        throw new IllegalArgumentException("--format must be csv or bin");
+                    }
+                    columnar = format.equals("bin");
+                    break;
+                case "--deadline-slack":
+                    String[] slackParts = value(args, ++i, arg).split(",");
+                    try {
+                        deadlineSlack = new double[]{Double.parseDouble(slackParts[0]),
+                            Double.parseDouble(slackParts[slackParts.length > 1 ? 1 : 0])};
+                    } catch (NumberFormatException e) {
+                        deadlineSlack = new double[]{0, 0};
+                    }
+                    if (!(deadlineSlack[0] >= 1) || !(deadlineSlack[1] >= deadlineSlack[0])) {
+                        throw new IllegalArgumentException("--deadline-slack takes a minimum slack of at least 1 and an optional larger maximum");
+                    }
+                    break;
+                case "--store":
+                    storeDirectory = Paths.get(value(args, ++i, arg));
+                    break;
+                case "--convert":
+                    return convert(Paths.get(value(args, ++i, arg)), Paths.get(value(args, ++i, arg)), err);
+                default:
+                    if (arg.startsWith("-")) {
+                        throw new IllegalArgumentException("unknown option " + arg);
+                    }
+                    workloads.add(arg);
+            }
+        }
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("no workloads given");
+        }
+
+        TestStore store = null;
+        int status = 0;
+        out.println(SUMMARY_HEADER);
+        for (String workload : workloads) {
+            try {
+                if (workload.startsWith("test:") && store == null) {
+                    store = new TestStore(storeDirectory);
+                }
+                Workload source = Workload.parse(workload, store, deadlineSlack);
+                for (String algorithm : algorithms) {
+                    if (algorithm.equals("rr")) {
+                        for (int timeQuantum : timeQuanta) {
+                            runOne(source, algorithm, timeQuantum, levelQuanta, boostInterval, cfs, outputDirectory, columnar, out);
+                        }
+                    } else {
+                        runOne(source, algorithm, 0, levelQuanta, boostInterval, cfs, outputDirectory, columnar, out);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                err.println(workload + ": " + e.getMessage());
+                status = 1;
+            }
+        }
+        out.flush();
+        return status;
+    }
+
+    // Converts between CSV and binary traces, each side chosen by its file extension
+    private static int convert(Path input, Path output, PrintStream err) {
+        boolean binaryInput = BinaryWorkload.isBinaryWorkload(input);
+        if (binaryInput == BinaryWorkload.isBinaryWorkload(output)) {
+            throw new IllegalArgumentException("--convert needs one CSV and one " + BinaryWorkload.EXTENSION + " file");
+        }
+        try {
+            if (binaryInput) {
+                BinaryWorkload.binaryToCsv(input, output);
+            } else {
+                BinaryWorkload.csvToBinary(input, output);
+            }
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            err.println(input + ": " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static void runOne(Workload workload, String algorithm, int timeQuantum, int[] levelQuanta, int boostInterval,
+            int[] cfs, Path outputDirectory, boolean columnar, PrintStream out) throws IOException {
+        long start = System.nanoTime();
+        ProcessSource source = workload.open();
+        SchedulingResult result;
+        try {
+            if (outputDirectory == null) {
+                result = schedule(algorithm, source, null, timeQuantum, levelQuanta, boostInterval, cfs);
+            } else {
+                Files.createDirectories(outputDirectory);
+                String label = timeQuantum > 0 ? algorithm + "-q" + timeQuantum : algorithm;
+                Path file = outputDirectory.resolve(fileName(workload.name) + "_" + label + (columnar ? ".bin" : ".csv"));
+                if (columnar) {
+                    // The columnar layout needs every row before it is written
+                    SchedulingResult rows = new SchedulingResult(displayName(algorithm, timeQuantum), 0);
+                    result = schedule(algorithm, source, rows, timeQuantum, levelQuanta, boostInterval, cfs);
+                    rows.complete(result.getEndTime(), result.getTotalBurstTime());
+                    ResultExporter.writeColumnar(rows, file);
+                } else {
+                    // Rows go straight to the file as processes finish
+                    try (CsvResultWriter writer = new CsvResultWriter(file, displayName(algorithm, timeQuantum))) {
+                        result = schedule(algorithm, source, writer, timeQuantum, levelQuanta, boostInterval, cfs);
+                        writer.writePercentiles(result);
+                    }
+                }
+            }
+        } finally {
+            if (source instanceof Closeable) {
+                ((Closeable) source).close();
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        LatencyHistogram waiting = result.getWaitingHistogram();
+        LatencyHistogram lateness = result.getLatenessHistogram();
+        out.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%.2f,%.2f,%.4f,%.2f,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.2f,%d,%d,%d%n",
+                workload.name, result.getAlgorithm(), result.size(), result.getEndTime(), result.getTotalBurstTime(),
+                result.getAverageTurnaroundTime(), result.getAverageWaitingTime(), result.getThroughput(),
+                result.getCpuUtilization(), waiting.getValueAtPercentile(50), waiting.getValueAtPercentile(90),
+                waiting.getValueAtPercentile(99), waiting.getValueAtPercentile(99.9), waiting.getMax(),
+                result.getResponseHistogram().getValueAtPercentile(99),
+                result.getTurnaroundHistogram().getValueAtPercentile(99), result.getDeadlineCount(),
+                result.getMissedDeadlines(), result.getDeadlineMissRatio() * 100, lateness.getValueAtPercentile(99),
+                lateness.getMax(), elapsedMillis);
+    }
+
+    private static SchedulingResult schedule(String algorithm, ProcessSource source, ResultSink rows, int timeQuantum,
+            int[] levelQuanta, int boostInterval, int[] cfs) {
+        switch (algorithm) {
+            case "fcfs": return SchedulingAlgorithms.fcfs(source, rows);
+            case "sjf": return SchedulingAlgorithms.sjf(source, rows);
+            case "priority": return SchedulingAlgorithms.priorityScheduling(source, rows);
+            case "srtf": return SchedulingAlgorithms.srtf(source, rows);
+            case "ppriority": return SchedulingAlgorithms.preemptivePriority(source, rows);
+            case "rr": return SchedulingAlgorithms.roundRobin(source, rows, timeQuantum);
+            case "cfs": return SchedulingAlgorithms.cfs(source, rows, cfs[0], cfs[1]).getResult();
+            case "edf": return SchedulingAlgorithms.edf(source, rows);
+            case "pedf": return SchedulingAlgorithms.preemptiveEdf(source, rows);
+            default: return SchedulingAlgorithms.mlfq(source, rows, levelQuanta, boostInterval).getResult();
+        }
+    }
+
+    // The label the engine gives the run, for row files written before it finishes
+    private static String displayName(String algorithm, int timeQuantum) {
+        switch (algorithm) {
+            case "fcfs": return "FCFS";
+            case "sjf": return "SJF";
+            case "priority": return "Priority";
+            case "srtf": return "SRTF";
+            case "ppriority": return "Priority (Preemptive)";
+            case "rr": return "RR(Q=" + timeQuantum + ")";
+            case "cfs": return "CFS";
+            case "edf": return "EDF";
+            case "pedf": return "EDF (Preemptive)";
+            default: return "MLFQ";
+        }
+    }
+
+    // A workload argument, reopened as a fresh source for every run
+    private static final class Workload {
+        final String name;
+        private final Path trace;
+        private final ProcessTable table;
+        private final WorkloadGenerator generator;
+        private final int count;
+
+        private Workload(String name, Path trace, ProcessTable table, WorkloadGenerator generator, int count) {
+            this.name = name;
+            this.trace = trace;
+            this.table = table;
+            this.generator = generator;
+            this.count = count;
+        }
+
+        static Workload parse(String argument, TestStore store, double[] deadlineSlack) throws IOException {
+            if (argument.startsWith("test:")) {
+                String testName = argument.substring("test:".length());
+                TestStore.Entry entry = store.find(testName);
+                if (entry == null) {
+                    throw new IllegalArgumentException("no saved test named " + testName);
+                }
+                return new Workload(argument, null, store.open(entry), null, 0);
+            }
+            if (argument.startsWith("gen:")) {
+                String[] parts = argument.split(":");
+                int count = Integer.parseInt(parts[1]);
+                long seed = parts.length > 2 ? Long.parseLong(parts[2]) : 42;
+                WorkloadGenerator generator = new WorkloadGenerator(seed);
+                if (deadlineSlack != null) {
+                    generator.deadlineSlack(deadlineSlack[0], deadlineSlack[1]);
+                }
+                return new Workload(argument, null, null, generator, count);
+            }
+            Path trace = Paths.get(argument);
+            if (!Files.isReadable(trace)) {
+                throw new IllegalArgumentException("cannot read " + argument);
+            }
+            return new Workload(trace.getFileName().toString(), trace, null, null, 0);
+        }
+
+        ProcessSource open() throws IOException {
+            if (table != null) {
+                return table.source();
+            }
+            if (generator != null) {
+                return generator.stream(count);
+            }
+            if (BinaryWorkload.isBinaryWorkload(trace)) {
+                return BinaryWorkload.open(trace);
+            }
+            return new CsvTraceReader(trace);
+        }
+    }
+
+    private static String fileName(String workload) {
+        return workload.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[index];
+    }
+
+    private static int[] positiveInts(String text, String option) {
+        String[] parts = text.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                values[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                values[i] = 0;
+            }
+            if (values[i] <= 0) {
+                throw new IllegalArgumentException(option + " takes positive integers separated by commas");
+            }
+        }
+        return values;
+    }
+
+    private static int nonNegativeInt(String text, String option) {
+        int value;
+        try {
+            value = Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            value = -1;
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException(option + " takes a non-negative integer");
+        }
+        return value;
+    }
+
+    private static void printUsage(PrintStream out) {
+        out.println("Usage: java -cp cpu-scheduling-simulator.jar BatchRunner [options] <workload>...");
+        out.println();
+        out.println("Workloads:");
+        out.println("  <file.csv>                  arrival-sorted trace (Process ID, Arrival Time, Burst Time, Priority[, Deadline])");
+        out.println("  <file.cpw>                  the same trace in the compact binary format");
+        out.println("  test:<name>                 test saved from the GUI");
+        out.println("  gen:<processes>[:<seed>]    generated workload (Poisson arrivals, exponential bursts)");
+        out.println();
+        out.println("Options:");
+        out.println("  -a, --algorithms <list>     comma-separated: fcfs,sjf,priority,srtf,ppriority,rr,mlfq,cfs,edf,pedf");
+        out.println("                              or all (default)");
+        out.println("  -q, --quantum <list>        Round Robin time quanta, one run each (default 4)");
+        out.println("      --mlfq <q1,q2,q3[,b]>   MLFQ level quanta and optional boost interval (0: no boost)");
+        out.println("      --cfs <latency[,gran]>  CFS target latency and optional minimum granularity");
+        out.println("      --deadline-slack <lo[,hi]>");
+        out.println("                              give gen: processes a deadline of burst * slack in [lo, hi]");
+        out.println("  -o, --output <dir>          also write each run's rows and percentiles to <dir>");
+        out.println("      --format csv|bin        row file format for --output (default csv)");
+        out.println("      --store <dir>           saved-test store for test: workloads");
+        out.println("      --convert <in> <out>    convert a trace between .csv and .cpw and exit");
+        out.println("  -h, --help                  show this help");
+        out.println();
+        out.println("A CSV summary line per run is printed to standard output; errors go to standard error.");
+    }
+}
@@ -0,0 +1,490 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Compact binary workload file (".cpw"), several times smaller than the CSV trace and decoded
+// without any text parsing. All fixed-width values are little-endian.
+//   header (32 bytes): int magic "CPW1", int version, int rows, int rows per block,
+//                      int block count, int flags (1 = arrival sorted), long index offset
+//   blocks:            int rows, int payload length, then per row four varints:
+//                      zigzag(id - previous id), zigzag(arrival - previous arrival),
+//                      burst, zigzag(priority)
+//   index:             per block a long file offset and an int first arrival time
+// A block holding any process with a deadline sets the top bit of its row count and starts its
+// payload with one deadline varint per row (0 for none); files with such blocks are version 2,
+// so workloads without deadlines keep the version 1 layout byte for byte.
+// Deltas restart from 0 in every block, so blocks decode independently: read() decodes them
+// in parallel straight into a ProcessTable, and the index lets a reader seek by block or time.
+public class BinaryWorkload {
+    public static final String EXTENSION = ".cpw";
+    public static final int MAGIC = 0x43505731;   // "CPW1"
+    private static final int VERSION = 1;
+    private static final int VERSION_DEADLINES = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int BLOCK_HEADER_SIZE = 8;
+    private static final int INDEX_ENTRY_SIZE = 12;
+    private static final int FLAG_ARRIVAL_SORTED = 1;
+    private static final int BLOCK_FLAG_DEADLINES = 0x80000000;
+    static final int BLOCK_ROWS = 1 << 16;
+    // Largest encoding of a row: four 5-byte varints
+    private static final int MAX_ROW_BYTES = 20;
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final long MAX_WINDOW = 1L << 30;
+
+    public static boolean isBinaryWorkload(Path path) {
+        return path.getFileName().toString().endsWith(EXTENSION);
+    }
+
+    // Encodes the source's processes in order; returns how many were written
+    public static int write(ProcessSource source, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer block = ByteBuffer.allocate(BLOCK_HEADER_SIZE + BLOCK_ROWS * MAX_ROW_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer deadlineSection = ByteBuffer.allocate(BLOCK_ROWS * MAX_VARINT_BYTES);
+            int[] blockDeadlines = new int[BLOCK_ROWS];
+            boolean blockHasDeadlines = false;
+            boolean deadlines = false;
+            long[] offsets = new long[16];
+            int[] firstArrivals = new int[16];
+            int blockCount = 0;
+            int rows = 0;
+            int blockRows = 0;
+            int previousId = 0;
+            int previousArrival = 0;
+            int lastArrival = 0;
+            boolean arrivalSorted = true;
+            long position = HEADER_SIZE;
+
+            block.position(BLOCK_HEADER_SIZE);
+            while (source.next()) {
+                if (blockRows == 0) {
+                    if (blockCount == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, blockCount * 2);
+                        firstArrivals = Arrays.copyOf(firstArrivals, blockCount * 2);
+                    }
+                    offsets[blockCount] = position;
+                    firstArrivals[blockCount] = source.arrivalTime();
+                    blockCount++;
+                    previousId = 0;
+                    previousArrival = 0;
+                }
+                if (rows > 0 && source.arrivalTime() < lastArrival) {
+                    arrivalSorted = false;
+                }
+                lastArrival = source.arrivalTime();
+                putVarint(block, zigzag(source.id() - previousId));
+                putVarint(block, zigzag(source.arrivalTime() - previousArrival));
+                putVarint(block, source.burstTime());
+                putVarint(block, zigzag(source.priority()));
+                blockDeadlines[blockRows] = source.deadline();
+                blockHasDeadlines |= source.deadline() != Process.NO_DEADLINE;
+                previousId = source.id();
+                previousArrival = source.arrivalTime();
+                blockRows++;
+                rows++;
+                if (blockRows == BLOCK_ROWS) {
+                    position += writeBlock(channel, block, blockRows, blockHasDeadlines ? blockDeadlines : null,
+                            deadlineSection, position);
+                    deadlines |= blockHasDeadlines;
+                    blockHasDeadlines = false;
+                    blockRows = 0;
+                }
+            }
+            if (blockRows > 0) {
+                position += writeBlock(channel, block, blockRows, blockHasDeadlines ? blockDeadlines : null,
+                        deadlineSection, position);
+                deadlines |= blockHasDeadlines;
+            }
+
+            ByteBuffer index = ByteBuffer.allocate(blockCount * INDEX_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int b = 0; b < blockCount; b++) {
+                index.putLong(offsets[b]).putInt(firstArrivals[b]);
+            }
+            index.flip();
+            writeFully(channel, index, position);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(deadlines ? VERSION_DEADLINES : VERSION).putInt(rows).putInt(BLOCK_ROWS).putInt(blockCount)
+                    .putInt(arrivalSorted ? FLAG_ARRIVAL_SORTED : 0).putLong(position);
+            header.flip();
+            writeFully(channel, header, 0);
+            return rows;
+        }
+    }
+
+    // Returns the bytes written. deadlines is null for a block without any; otherwise their
+    // section is encoded into deadlineSection and written between the block header and the rows.
+    private static int writeBlock(FileChannel channel, ByteBuffer block, int rows, int[] deadlines,
+            ByteBuffer deadlineSection, long position) throws IOException {
+        int length = block.position();
+        if (deadlines == null) {
+            block.putInt(0, rows).putInt(4, length - BLOCK_HEADER_SIZE);
+            block.flip();
+            writeFully(channel, block, position);
+        } else {
+            deadlineSection.clear();
+            for (int i = 0; i < rows; i++) {
+                putVarint(deadlineSection, deadlines[i]);
+            }
+            deadlineSection.flip();
+            int sectionLength = deadlineSection.remaining();
+            block.putInt(0, rows | BLOCK_FLAG_DEADLINES).putInt(4, length - BLOCK_HEADER_SIZE + sectionLength);
+            block.position(0).limit(BLOCK_HEADER_SIZE);
+            writeFully(channel, block, position);
+            writeFully(channel, deadlineSection, position + BLOCK_HEADER_SIZE);
+            block.limit(length);
+            writeFully(channel, block, position + BLOCK_HEADER_SIZE + sectionLength);
+            length += sectionLength;
+        }
+        block.clear();
+        block.position(BLOCK_HEADER_SIZE);
+        return length;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    public static ProcessTable read(Path path) throws IOException {
+        return read(path, ForkJoinPool.commonPool());
+    }
+
+    // Maps the file and decodes every block on the pool straight into the table's columns
+    public static ProcessTable read(Path path, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, path);
+            int[] ids = new int[header.rows];
+            int[] arrivalTimes = new int[header.rows];
+            int[] burstTimes = new int[header.rows];
+            int[] priorities = new int[header.rows];
+            int[] deadlines = header.deadlines ? new int[header.rows] : null;
+
+            // Blocks are mapped in windows of whole blocks; each task reads its block with absolute gets
+            List<Callable<Void>> tasks = new ArrayList<>(header.blockCount);
+            MappedByteBuffer window = null;
+            long windowStart = 0;
+            long windowEnd = 0;
+            for (int b = 0; b < header.blockCount; b++) {
+                long offset = header.offsets[b];
+                long end = b + 1 < header.blockCount ? header.offsets[b + 1] : header.indexOffset;
+                if (end > windowEnd) {
+                    windowStart = offset;
+                    windowEnd = Math.min(header.indexOffset, offset + MAX_WINDOW);
+                    window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+                    window.order(ByteOrder.LITTLE_ENDIAN);
+                }
+                ByteBuffer source = window;
+                int start = (int) (offset - windowStart);
+                int firstRow = b * header.blockRows;
+                tasks.add(() -> {
+                    decodeBlock(source, start, ids, arrivalTimes, burstTimes, priorities, deadlines, firstRow);
+                    return null;
+                });
+            }
+
+            try {
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Reading " + path + " was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IOException(path + " is corrupt: " + e.getCause().getMessage(), e.getCause());
+            }
+            return ProcessTable.wrap(IntBuffer.wrap(ids), IntBuffer.wrap(arrivalTimes), IntBuffer.wrap(burstTimes),
+                    IntBuffer.wrap(priorities), deadlines != null ? IntBuffer.wrap(deadlines) : null, header.rows,
+                    header.arrivalSorted);
+        }
+    }
+
+    private static void decodeBlock(ByteBuffer source, int start, int[] ids, int[] arrivalTimes, int[] burstTimes,
+            int[] priorities, int[] deadlines, int firstRow) {
+        int rows = source.getInt(start);
+        int length = source.getInt(start + 4);
+        byte[] payload = new byte[length];
+        source.get(start + BLOCK_HEADER_SIZE, payload, 0, length);
+
+        int position = 0;
+        if ((rows & BLOCK_FLAG_DEADLINES) != 0) {
+            rows &= ~BLOCK_FLAG_DEADLINES;
+            if (deadlines == null) {
+                throw new IllegalStateException("block at row " + firstRow + " has deadlines in a version " + VERSION + " file");
+            }
+            for (int row = firstRow; row < firstRow + rows; row++) {
+                long varint = getVarint(payload, position);
+                deadlines[row] = (int) varint;
+                position = (int) (varint >>> 32);
+            }
+        }
+        int id = 0;
+        int arrivalTime = 0;
+        for (int row = firstRow; row < firstRow + rows; row++) {
+            long varint = getVarint(payload, position);
+            id += unzigzag((int) varint);
+            varint = getVarint(payload, (int) (varint >>> 32));
+            arrivalTime += unzigzag((int) varint);
+            ids[row] = id;
+            arrivalTimes[row] = arrivalTime;
+            varint = getVarint(payload, (int) (varint >>> 32));
+            burstTimes[row] = (int) varint;
+            varint = getVarint(payload, (int) (varint >>> 32));
+            priorities[row] = unzigzag((int) varint);
+            position = (int) (varint >>> 32);
+        }
+        if (position != length) {
+            throw new IllegalStateException("block at row " + firstRow + " does not match its length");
+        }
+    }
+
+    // Streams the processes block by block with constant memory, for the engine's trace entry points
+    public static Reader open(Path path) throws IOException {
+        return new Reader(path);
+    }
+
+    public static void csvToBinary(Path csv, Path binary) throws IOException {
+        try (CsvTraceReader reader = new CsvTraceReader(csv)) {
+            write(reader, binary);
+        }
+    }
+
+    public static void binaryToCsv(Path binary, Path csv) throws IOException {
+        try (Reader reader = open(binary)) {
+            CsvTraceWriter.write(reader, csv, reader.hasDeadlines());
+        }
+    }
+
+    public static final class Reader implements ProcessSource, Closeable {
+        private final FileChannel channel;
+        private final Header header;
+        private final ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private byte[] payload = new byte[0];
+        private int position;
+        private int block;
+        private int rowsLeft;
+        // Deadlines of the loaded block, or null when it has none
+        private int[] blockDeadlines;
+        private int[] deadlineBuffer;
+        private int blockRow;
+
+        private int id;
+        private int arrivalTime;
+        private int burstTime;
+        private int priority;
+        private int deadline;
+
+        private Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                header = readHeader(channel, path);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        public int size() {
+            return header.rows;
+        }
+
+        // Whether any block carries deadlines
+        public boolean hasDeadlines() {
+            return header.deadlines;
+        }
+
+        // Positions the reader at the first block that may hold processes arriving at or after time
+        public void seek(int time) {
+            int found = 0;
+            for (int b = 1; b < header.blockCount && header.firstArrivals[b] <= time; b++) {
+                found = b;
+            }
+            block = found;
+            rowsLeft = 0;
+        }
+
+        @Override
+        public boolean next() {
+            if (rowsLeft == 0) {
+                if (block >= header.blockCount) {
+                    return false;
+                }
+                loadBlock(block++);
+            }
+            long varint = getVarint(payload, position);
+            id += unzigzag((int) varint);
+            varint = getVarint(payload, (int) (varint >>> 32));
+            arrivalTime += unzigzag((int) varint);
+            varint = getVarint(payload, (int) (varint >>> 32));
+            burstTime = (int) varint;
+            varint = getVarint(payload, (int) (varint >>> 32));
+            priority = unzigzag((int) varint);
+            position = (int) (varint >>> 32);
+            deadline = blockDeadlines != null ? blockDeadlines[blockRow++] : Process.NO_DEADLINE;
+            rowsLeft--;
+            return true;
+        }
+
+        private void loadBlock(int b) {
+            try {
+                long offset = header.offsets[b];
+                blockHeader.clear();
+                readFully(channel, blockHeader, offset);
+                int length = blockHeader.getInt(4);
+                if (payload.length < length) {
+                    payload = new byte[length];
+                }
+                readFully(channel, ByteBuffer.wrap(payload, 0, length), offset + BLOCK_HEADER_SIZE);
+                rowsLeft = blockHeader.getInt(0) & ~BLOCK_FLAG_DEADLINES;
+                position = 0;
+                id = 0;
+                arrivalTime = 0;
+                blockRow = 0;
+                blockDeadlines = null;
+                if ((blockHeader.getInt(0) & BLOCK_FLAG_DEADLINES) != 0) {
+                    // The section ahead of the rows is decoded whole so rows can stream after it
+                    if (deadlineBuffer == null || deadlineBuffer.length < rowsLeft) {
+                        deadlineBuffer = new int[rowsLeft];
+                    }
+                    for (int i = 0; i < rowsLeft; i++) {
+                        long varint = getVarint(payload, position);
+                        deadlineBuffer[i] = (int) varint;
+                        position = (int) (varint >>> 32);
+                    }
+                    blockDeadlines = deadlineBuffer;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public int id() {
+            return id;
+        }
+
+        @Override
+        public int arrivalTime() {
+            return arrivalTime;
+        }
+
+        @Override
+        public int burstTime() {
+            return burstTime;
+        }
+
+        @Override
+        public int priority() {
+            return priority;
+        }
+
+        @Override
+        public int deadline() {
+            return deadline;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class Header {
+        int rows;
+        int blockRows;
+        int blockCount;
+        boolean arrivalSorted;
+        boolean deadlines;
+        long indexOffset;
+        long[] offsets;
+        int[] firstArrivals;
+    }
+
+    private static Header readHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException(path + " is not a binary workload");
+        }
+        readFully(channel, buffer, 0);
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a binary workload");
+        }
+        if (buffer.getInt(4) != VERSION && buffer.getInt(4) != VERSION_DEADLINES) {
+            throw new IOException(path + " has unsupported version " + buffer.getInt(4));
+        }
+        Header header = new Header();
+        header.deadlines = buffer.getInt(4) == VERSION_DEADLINES;
+        header.rows = buffer.getInt(8);
+        header.blockRows = buffer.getInt(12);
+        header.blockCount = buffer.getInt(16);
+        header.arrivalSorted = (buffer.getInt(20) & FLAG_ARRIVAL_SORTED) != 0;
+        header.indexOffset = buffer.getLong(24);
+        if (header.rows < 0 || header.blockRows <= 0 || header.blockCount < 0
+                || header.indexOffset + (long) header.blockCount * INDEX_ENTRY_SIZE != channel.size()) {
+            throw new IOException(path + " is truncated or corrupt");
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(header.blockCount * INDEX_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, index, header.indexOffset);
+        header.offsets = new long[header.blockCount];
+        header.firstArrivals = new int[header.blockCount];
+        for (int b = 0; b < header.blockCount; b++) {
+            header.offsets[b] = index.getLong(b * INDEX_ENTRY_SIZE);
+            header.firstArrivals[b] = index.getInt(b * INDEX_ENTRY_SIZE + 8);
+        }
+        return header;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of binary workload");
+            }
+            position += read;
+        }
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    // Decodes the varint at position; returns the value in the low 32 bits and the position
+    // after it in the high 32 bits, so decoding loops need no cursor object
+    private static long getVarint(byte[] bytes, int position) {
+        int b = bytes[position++];
+        int value = b & 0x7F;
+        for (int shift = 7; b < 0; shift += 7) {
+            b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+        }
+        return ((long) position << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -1,9 +1,14 @@
 import java.awt.*;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.swing.*;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.DefaultTableModel;
 
 
@@ -40,8 +45,7 @@ public class CPUSchedulingSimulator {
                 new Color(0, 120, 215)
         ));
 
-        String[] inputColumns = {"Process ID", "Arrival Time", "Burst Time", "Priority"};
-        DefaultTableModel inputModel = new DefaultTableModel(inputColumns, 0);
+        ProcessTableModel inputModel = new ProcessTableModel();
         JTable inputTable = new JTable(inputModel);
         JScrollPane inputScrollPane = new JScrollPane(inputTable);
         inputScrollPane.setBounds(20, 30, 680, 100);
@@ -50,12 +54,14 @@ public class CPUSchedulingSimulator {
         JTextField txtArrivalTime = new JTextField();
         JTextField txtBurstTime = new JTextField();
         JTextField txtPriority = new JTextField();
+        JTextField txtDeadline = new JTextField();
         JCheckBox autoGenerateID = new JCheckBox("Auto-generate Process ID");
         JButton btnAdd = new JButton("Add");
         JButton btnRemove = new JButton("Remove");
         JButton btnClearAll = new JButton("Clear All");
         JButton btnSaveTest = new JButton("Save Test");
         JButton btnLoadTest = new JButton("Load Test");
+        JButton btnGenerate = new JButton("Generate");
 
         txtArrivalTime.setBounds(20, 140, 80, 40);
         txtArrivalTime.setBorder(BorderFactory.createTitledBorder("Arrival Time"));
@@ -63,8 +69,11 @@ public class CPUSchedulingSimulator {
         txtBurstTime.setBorder(BorderFactory.createTitledBorder("Burst Time"));
         txtPriority.setBounds(200, 140, 80, 40);
         txtPriority.setBorder(BorderFactory.createTitledBorder("Priority"));
+        txtDeadline.setBounds(290, 140, 80, 40);
+        txtDeadline.setBorder(BorderFactory.createTitledBorder("Deadline"));
+        txtDeadline.setToolTipText("Time after arrival by which the process should finish; blank for none");
 
-        autoGenerateID.setBounds(290, 140, 200, 40);
+        autoGenerateID.setBounds(380, 140, 200, 40);
         autoGenerateID.setBackground(panelColor);
 
         btnAdd.setBounds(20, 190, 100, 30);
@@ -72,16 +81,19 @@ public class CPUSchedulingSimulator {
         btnClearAll.setBounds(240, 190, 100, 30);
         btnSaveTest.setBounds(350, 190, 120, 30);
         btnLoadTest.setBounds(480, 190, 120, 30);
+        btnGenerate.setBounds(610, 190, 90, 30);
 
         inputPanel.add(txtArrivalTime);
         inputPanel.add(txtBurstTime);
         inputPanel.add(txtPriority);
+        inputPanel.add(txtDeadline);
         inputPanel.add(autoGenerateID);
         inputPanel.add(btnAdd);
         inputPanel.add(btnRemove);
         inputPanel.add(btnClearAll);
         inputPanel.add(btnSaveTest);
         inputPanel.add(btnLoadTest);
+        inputPanel.add(btnGenerate);
 
         // Enhanced Input Validation
         btnAdd.addActionListener(e -> {
@@ -97,17 +109,21 @@ public class CPUSchedulingSimulator {
                 String priorityStr = txtPriority.getText().trim();
                 int priority = priorityStr.isEmpty() ? 0 : Integer.parseInt(priorityStr);
 
+                String deadlineStr = txtDeadline.getText().trim();
+                int deadline = deadlineStr.isEmpty() ? Process.NO_DEADLINE : Integer.parseInt(deadlineStr);
+
                 // Validate inputs
-                if (arrivalTime < 0 || burstTime <= 0 || (!priorityStr.isEmpty() && priority < 0)) {
+                if (arrivalTime < 0 || burstTime <= 0 || (!priorityStr.isEmpty() && priority < 0) || deadline < 0) {
                     throw new IllegalArgumentException("Values must be non-negative and burst time must be positive.");
                 }
 
-                String processID = autoGenerateID.isSelected() ? "P" + (inputModel.getRowCount() + 1) : "P" + inputModel.getRowCount();
-                inputModel.addRow(new Object[]{processID, arrivalTimeStr.isEmpty() ? 0 : arrivalTime, burstTime, priorityStr.isEmpty() ? 1 : priority});
+                int processID = autoGenerateID.isSelected() ? inputModel.getRowCount() + 1 : inputModel.getRowCount();
+                inputModel.addRow(processID, arrivalTime, burstTime, priorityStr.isEmpty() ? 1 : priority, deadline);
 
                 txtArrivalTime.setText("");
                 txtBurstTime.setText("");
                 txtPriority.setText("");
+                txtDeadline.setText("");
             } catch (NumberFormatException ex) {
                 JOptionPane.showMessageDialog(frame, "Please enter valid numeric values!", "Error", JOptionPane.ERROR_MESSAGE);
             } catch (IllegalArgumentException ex) {
@@ -129,9 +145,15 @@ public class CPUSchedulingSimulator {
         });
 
         JLabel statusBar = new JLabel("Welcome to the CPU Scheduling Simulator");
-        statusBar.setBounds(20, 850, 1220, 30);
+        statusBar.setBounds(20, 850, 1090, 30);
         frame.add(statusBar);
 
+        // Stops the run in progress; only enabled while one is running
+        JButton btnCancel = new JButton("Cancel");
+        btnCancel.setBounds(1120, 850, 120, 25);
+        btnCancel.setEnabled(false);
+        frame.add(btnCancel);
+
         // Scheduling Method Panel
         JPanel schedulingPanel = new JPanel();
         schedulingPanel.setBounds(760, 20, 480, 240);
@@ -150,29 +172,52 @@ public class CPUSchedulingSimulator {
                 "FCFS (First Come First Serve)",
                 "SJF (Shortest Job First)",
                 "Priority Scheduling",
-                "Round Robin"
+                "Round Robin",
+                "SRTF (Shortest Remaining Time First)",
+                "Preemptive Priority Scheduling",
+                "MLFQ (Multilevel Feedback Queue)",
+                "CFS (Completely Fair Scheduler)",
+                "EDF (Earliest Deadline First)",
+                "Preemptive EDF"
         });
-        schedulingMethods.setBounds(20, 40, 440, 40);
+        schedulingMethods.setBounds(20, 30, 440, 35);
 
         JTextField txtTimeQuantum = new JTextField();
-        txtTimeQuantum.setBounds(20, 100, 440, 40);
-        txtTimeQuantum.setBorder(BorderFactory.createTitledBorder("Time Quantum for Round Robin"));
+        txtTimeQuantum.setBounds(20, 75, 440, 40);
+        txtTimeQuantum.setBorder(BorderFactory.createTitledBorder("Quantum (RR) / Level Quanta[,Boost] (MLFQ) / Latency[,Granularity] (CFS)"));
         txtTimeQuantum.setEnabled(false);
 
         schedulingMethods.addActionListener(e -> {
             String selectedMethod = (String) schedulingMethods.getSelectedItem();
-            txtTimeQuantum.setEnabled(selectedMethod != null && selectedMethod.equals("Round Robin"));
+            txtTimeQuantum.setEnabled(selectedMethod != null
+                    && (selectedMethod.equals("Round Robin") || selectedMethod.equals("MLFQ (Multilevel Feedback Queue)")
+                        || selectedMethod.equals("CFS (Completely Fair Scheduler)")));
             if (!txtTimeQuantum.isEnabled()) {
                 txtTimeQuantum.setText("");
             }
         });
 
         JButton btnCalculate = new JButton("Calculate");
-        btnCalculate.setBounds(20, 160, 440, 40);
+        btnCalculate.setBounds(20, 125, 215, 40);
+
+        JButton btnRunTrace = new JButton("Run Trace File");
+        btnRunTrace.setBounds(245, 125, 215, 40);
+
+        JButton btnCompareAll = new JButton("Compare All");
+        btnCompareAll.setBounds(20, 180, 215, 40);
+        btnCompareAll.setToolTipText("Runs every algorithm in parallel; RR uses the quanta in the field above, e.g. 2,4,8");
+
+        JCheckBox incrementalMode = new JCheckBox("Incremental (all rows)");
+        incrementalMode.setBounds(245, 180, 215, 40);
+        incrementalMode.setBackground(panelColor);
+        incrementalMode.setToolTipText("FCFS, SJF and Priority: reschedule only the part of the timeline an edit affects");
 
         schedulingPanel.add(schedulingMethods);
         schedulingPanel.add(txtTimeQuantum);
         schedulingPanel.add(btnCalculate);
+        schedulingPanel.add(btnRunTrace);
+        schedulingPanel.add(btnCompareAll);
+        schedulingPanel.add(incrementalMode);
 
         JPanel outputPanel = new JPanel();
         outputPanel.setBounds(20, 280, 1220, 560);
@@ -187,13 +232,27 @@ public class CPUSchedulingSimulator {
                 new Color(0, 120, 215)
         ));
 
-        String[] outputColumns = {"Algorithm", "Process ID", "Response Time", "Turnaround Time", "Completion Time", "Waiting Time"};
-        DefaultTableModel outputModel = new DefaultTableModel(outputColumns, 0);
+        ResultTableModel outputModel = new ResultTableModel();
         JTable outputTable = new JTable(outputModel);
         JScrollPane outputScrollPane = new JScrollPane(outputTable);
-        outputScrollPane.setBounds(20, 30, 1180, 300);
+        outputScrollPane.setBounds(20, 30, 1180, 215);
         outputPanel.add(outputScrollPane);
 
+        // Tail latency of the shown result, from its histograms
+        String[] percentileColumns = new String[LatencyHistogram.REPORTED_LABELS.length + 2];
+        percentileColumns[0] = "Metric";
+        System.arraycopy(LatencyHistogram.REPORTED_LABELS, 0, percentileColumns, 1, LatencyHistogram.REPORTED_LABELS.length);
+        percentileColumns[percentileColumns.length - 1] = "Max";
+        DefaultTableModel percentileModel = new DefaultTableModel(percentileColumns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JScrollPane percentileScrollPane = new JScrollPane(new JTable(percentileModel));
+        percentileScrollPane.setBounds(20, 250, 1180, 80);
+        outputPanel.add(percentileScrollPane);
+
         JLabel lblAvgTurnaround = new JLabel("Avg. Turnaround Time:");
         lblAvgTurnaround.setFont(labelFont);
         lblAvgTurnaround.setBounds(20, 340, 200, 30);
@@ -244,7 +303,7 @@ public class CPUSchedulingSimulator {
         cpuUtilizationField.setEditable(false);
         outputPanel.add(cpuUtilizationField);
 
-        JButton btnExport = new JButton("Export to CSV");
+        JButton btnExport = new JButton("Export");
         btnExport.setBounds(1050, 340, 140, 30);
         outputPanel.add(btnExport);
 
@@ -252,6 +311,29 @@ public class CPUSchedulingSimulator {
         btnClearOutput.setBounds(900, 340, 140, 30);
         outputPanel.add(btnClearOutput);
 
+        JButton btnMultiCore = new JButton("Multi-Core Simulation");
+        btnMultiCore.setBounds(1010, 400, 180, 30);
+        outputPanel.add(btnMultiCore);
+
+        JButton btnMonteCarlo = new JButton("Monte Carlo Replications");
+        btnMonteCarlo.setBounds(640, 400, 180, 30);
+        btnMonteCarlo.setToolTipText("Runs the Compare All line-up on many generated workloads and reports 95% confidence intervals");
+        outputPanel.add(btnMonteCarlo);
+
+        JButton btnDeadlineSweep = new JButton("Deadline Sweep");
+        btnDeadlineSweep.setBounds(830, 400, 170, 30);
+        btnDeadlineSweep.setToolTipText("Raises the arrival rate of a generated workload with deadlines and reports where each policy starts missing them");
+        outputPanel.add(btnDeadlineSweep);
+
+        GanttChart ganttChart = new GanttChart();
+        ganttChart.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
+        JPanel ganttPanel = new JPanel(new BorderLayout());
+        ganttPanel.setBounds(20, 440, 1180, 110);
+        ganttPanel.setBackground(panelColor);
+        ganttPanel.setBorder(BorderFactory.createTitledBorder("Gantt Chart (scroll to zoom, drag to pan, double-click to fit)"));
+        ganttPanel.add(ganttChart, BorderLayout.CENTER);
+        outputPanel.add(ganttPanel);
+
         btnClearOutput.setBackground(new Color(220, 53, 69)); 
         btnClearOutput.setFocusPainted(false);
 
@@ -260,53 +342,193 @@ public class CPUSchedulingSimulator {
         frame.add(outputPanel);
 
         // Event Listeners
-        ArrayList<ArrayList<Process>> savedTests = new ArrayList<>();
-        btnClearAll.addActionListener(e -> inputModel.setRowCount(0));
+        // Opened on first use, so a damaged store only affects Save Test and Load Test
+        LazyTestStore testStore = new LazyTestStore(TestStore.defaultDirectory());
+        AtomicReference<SchedulingResult> lastResult = new AtomicReference<>();
+        AtomicReference<IncrementalScheduler> incrementalRun = new AtomicReference<>();
+        AtomicInteger inputEdits = new AtomicInteger();
+        AtomicReference<EngineWorker<?>> activeRun = new AtomicReference<>();
+        // Repeat runs of the same rows, method and quantum are answered from here
+        ResultCache<CachedRun> resultCache = new ResultCache<>(Runtime.getRuntime().maxMemory() / 8);
+        JComponent[] runControls = {btnCalculate, btnRunTrace, btnCompareAll, btnMultiCore, btnMonteCarlo, btnDeadlineSweep};
+        btnCancel.addActionListener(e -> {
+            EngineWorker<?> run = activeRun.get();
+            if (run != null) {
+                run.stop();
+            }
+        });
+
+        // Keeps the incremental checkpoint in step with single-row edits; anything larger
+        // (clearing or loading a test) drops it and the next Calculate rebuilds it
+        inputModel.addTableModelListener(e -> {
+            inputEdits.incrementAndGet();
+            IncrementalScheduler scheduler = incrementalRun.get();
+            if (scheduler != null && !applyInputEdit(e, inputModel, scheduler)) {
+                incrementalRun.set(null);
+            }
+        });
+        btnClearAll.addActionListener(e -> inputModel.clear());
         btnSaveTest.addActionListener(e -> {
             try {
-                ArrayList<Process> test = new ArrayList<>();
-                for (int i = 0; i < inputModel.getRowCount(); i++) {
-                    String id = inputModel.getValueAt(i, 0).toString();
-                    int arrivalTime = Integer.parseInt(inputModel.getValueAt(i, 1).toString());
-                    int burstTime = Integer.parseInt(inputModel.getValueAt(i, 2).toString());
-                    int priority = Integer.parseInt(inputModel.getValueAt(i, 3).toString());
-                    test.add(new Process(Integer.parseInt(id.substring(1)), arrivalTime, burstTime, priority));
+                TestStore store = testStore.get();
+                String name = (String) JOptionPane.showInputDialog(frame, "Test name:", "Save Test",
+                        JOptionPane.QUESTION_MESSAGE, null, null, "Test " + (store.list().size() + 1));
+                if (name == null || name.trim().isEmpty()) {
+                    return;
                 }
-                savedTests.add(test);
+                store.save(name.trim(), inputModel.toProcessTable());
                 JOptionPane.showMessageDialog(frame, "Test saved successfully!", "Info", JOptionPane.INFORMATION_MESSAGE);
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(frame, "Failed to save test: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
             }
         });
+        // A saved test is memory-mapped and either run straight from disk or copied into the table for editing
         btnLoadTest.addActionListener(e -> {
-            if (savedTests.isEmpty()) {
-                JOptionPane.showMessageDialog(frame, "No saved tests to load!", "Error", JOptionPane.ERROR_MESSAGE);
+            TestStore.Entry[] tests;
+            try {
+                tests = testStore.get().list().toArray(new TestStore.Entry[0]);
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(frame, "Failed to read saved tests: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
                 return;
             }
-
-            String[] testNames = new String[savedTests.size()];
-            for (int i = 0; i < savedTests.size(); i++) {
-                testNames[i] = "Test " + (i + 1);
+            if (tests.length == 0) {
+                JOptionPane.showMessageDialog(frame, "No saved tests to load!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
             }
 
-            String selectedTest = (String) JOptionPane.showInputDialog(
+            TestStore.Entry selectedTest = (TestStore.Entry) JOptionPane.showInputDialog(
                     frame,
                     "Select a test to load:",
                     "Load Test",
                     JOptionPane.QUESTION_MESSAGE,
                     null,
-                    testNames,
-                    testNames[0]
+                    tests,
+                    tests[tests.length - 1]
             );
+            if (selectedTest == null) {
+                return;
+            }
 
-            if (selectedTest != null) {
-                int index = Integer.parseInt(selectedTest.split(" ")[1]) - 1;
-                ArrayList<Process> test = savedTests.get(index);
-                inputModel.setRowCount(0);
-                for (Process p : test) {
-                    inputModel.addRow(new Object[]{"P" + p.id, p.arrivalTime, p.burstTime, p.priority});
+            String[] actions = {"Run", "Edit in Table", "Cancel"};
+            int action = JOptionPane.showOptionDialog(frame,
+                    "Run " + selectedTest + " with the selected method, or copy it into the input table?",
+                    "Load Test", JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, actions, actions[0]);
+            ProcessTable workload;
+            try {
+                if (action == 0 || action == 1) {
+                    workload = testStore.get().open(selectedTest);
+                } else {
+                    return;
                 }
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(frame, "Failed to load test: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            if (action == 1) {
+                inputModel.setProcesses(workload);
                 JOptionPane.showMessageDialog(frame, "Test loaded successfully!", "Info", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+
+            String selectedMethod = (String) schedulingMethods.getSelectedItem();
+            if (selectedMethod == null) {
+                JOptionPane.showMessageDialog(frame, "Please select a scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            String quantumText = txtTimeQuantum.getText();
+            RunMonitor monitor = new RunMonitor();
+            AtomicReference<String> summary = new AtomicReference<>();
+            EngineWorker<SchedulingResult> run = new EngineWorker<>(selectedMethod + " on " + selectedTest.getName(),
+                    () -> runCached(resultCache, selectedMethod, workload, quantumText, monitor, summary),
+                    monitor, selectedTest.getTotalBurstTime(), statusBar, btnCancel, runControls,
+                    result -> {
+                        if (result == null) {
+                            JOptionPane.showMessageDialog(frame, "Invalid scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+                        showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                        lastResult.set(result);
+                        statusBar.setText(summary.get());
+                    },
+                    error -> showRunError(frame, error));
+            activeRun.set(run);
+            run.start();
+        });
+        // Seeded synthetic workload, loaded into the table, streamed into the engine or written as a trace
+        btnGenerate.addActionListener(e -> {
+            WorkloadForm form = new WorkloadForm();
+            String[] actions = {"Load into Table", "Run Selected Method", "Save as Trace...", "Cancel"};
+            int action = JOptionPane.showOptionDialog(frame, form.panel, "Generate Workload", JOptionPane.DEFAULT_OPTION,
+                    JOptionPane.PLAIN_MESSAGE, null, actions, actions[0]);
+            if (action < 0 || action == 3) {
+                return;
+            }
+
+            int count;
+            WorkloadGenerator generator;
+            try {
+                count = form.getCount();
+                generator = form.toGenerator();
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "Please enter valid numeric values!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(frame, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            if (action == 0) {
+                EngineWorker<ProcessTable> run = new EngineWorker<>("Generating " + count + " processes",
+                        () -> generator.generate(count), null, 0, statusBar, btnCancel, runControls,
+                        table -> {
+                            inputModel.setProcesses(table);
+                            statusBar.setText("Generated " + table.size() + " processes");
+                        },
+                        error -> JOptionPane.showMessageDialog(frame, "Failed to generate workload: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+                activeRun.set(run);
+                run.start();
+            } else if (action == 1) {
+                String selectedMethod = (String) schedulingMethods.getSelectedItem();
+                if (selectedMethod == null) {
+                    JOptionPane.showMessageDialog(frame, "Please select a scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                // Streamed like a trace file: only aggregates are kept
+                String quantumText = txtTimeQuantum.getText();
+                RunMonitor monitor = new RunMonitor();
+                AtomicReference<String> summary = new AtomicReference<>();
+                EngineWorker<SchedulingResult> run = new EngineWorker<>(selectedMethod + " on " + count + " generated processes",
+                        () -> runSelectedMethod(selectedMethod, null, generator.stream(count), quantumText, monitor, summary),
+                        monitor, 0, statusBar, btnCancel, runControls,
+                        result -> {
+                            if (result == null) {
+                                JOptionPane.showMessageDialog(frame, "Invalid scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                                return;
+                            }
+                            showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                            lastResult.set(result);
+                            statusBar.setText(summary.get());
+                        },
+                        error -> showRunError(frame, error));
+                activeRun.set(run);
+                run.start();
+            } else {
+                JFileChooser chooser = new JFileChooser(".");
+                if (chooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) {
+                    return;
+                }
+                File traceFile = chooser.getSelectedFile();
+                EngineWorker<File> run = new EngineWorker<>("Writing " + traceFile.getName(),
+                        () -> {
+                            generator.writeCsv(traceFile.toPath(), count);
+                            return traceFile;
+                        },
+                        null, 0, statusBar, btnCancel, runControls,
+                        file -> statusBar.setText("Wrote " + count + " processes to " + file.getName()),
+                        error -> JOptionPane.showMessageDialog(frame, "Failed to write trace: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+                activeRun.set(run);
+                run.start();
             }
         });
         btnCalculate.addActionListener(e -> {
@@ -316,6 +538,48 @@ public class CPUSchedulingSimulator {
                 return;
             }
 
+            int order = nonPreemptiveOrder(selectedMethod);
+            if (incrementalMode.isSelected() && order >= 0) {
+                IncrementalScheduler scheduler = incrementalRun.get();
+                if (scheduler != null && scheduler.getOrder() == order) {
+                    SchedulingResult result = scheduler.getResult();
+                    showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                    lastResult.set(result);
+                    statusBar.setText(result.getAlgorithm() + ": " + result.size() + " processes scheduled, "
+                            + scheduler.getLastRecomputedCount() + " rescheduled by the last change");
+                    return;
+                }
+
+                // Building the checkpoint is a full run, so it goes through the worker like any
+                // other. Edits made meanwhile aren't in its snapshot, so then it is shown but not kept.
+                ProcessTable snapshot = inputModel.toProcessTable();
+                long totalBurstTime = 0;
+                for (int i = 0; i < snapshot.size(); i++) {
+                    totalBurstTime += snapshot.getBurstTime(i);
+                }
+                int editsAtStart = inputEdits.get();
+                RunMonitor monitor = new RunMonitor();
+                AtomicReference<SchedulingResult> builtResult = new AtomicReference<>();
+                EngineWorker<IncrementalScheduler> run = new EngineWorker<>(selectedMethod + " (incremental)",
+                        () -> {
+                            IncrementalScheduler built = new IncrementalScheduler(snapshot, order, monitor);
+                            builtResult.set(built.getResult());
+                            return built;
+                        },
+                        monitor, totalBurstTime, statusBar, btnCancel, runControls,
+                        built -> {
+                            incrementalRun.set(inputEdits.get() == editsAtStart ? built : null);
+                            SchedulingResult result = builtResult.get();
+                            showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                            lastResult.set(result);
+                            statusBar.setText(result.getAlgorithm() + ": " + result.size() + " processes scheduled");
+                        },
+                        error -> showRunError(frame, error));
+                activeRun.set(run);
+                run.start();
+                return;
+            }
+
             // Create process selection dialog
             JDialog selectDialog = new JDialog(frame, "Select Processes", true);
             selectDialog.setLayout(new BorderLayout());
@@ -334,56 +598,42 @@ public class CPUSchedulingSimulator {
 
             JButton btnConfirm = new JButton("Calculate Selected");
             btnConfirm.addActionListener(event -> {
-                ArrayList<Process> selectedProcesses = new ArrayList<>();
+                boolean[] selected = new boolean[checkBoxes.size()];
+                long totalBurstTime = 0;
                 for (int i = 0; i < checkBoxes.size(); i++) {
                     if (checkBoxes.get(i).isSelected()) {
-                        String priorityStr = inputModel.getValueAt(i, 3).toString().trim();
-                        
-                        // Check for empty priority values only for Priority Scheduling
-                        if (selectedMethod.equals("Priority Scheduling") && priorityStr.isEmpty()) {
-                            JOptionPane.showMessageDialog(selectDialog, 
-                                "Priority values are required for Priority Scheduling!\nPlease fill in all priority values.", 
-                                "Warning", 
-                                JOptionPane.WARNING_MESSAGE);
-                            return;
-                        }
-
-                        int id = Integer.parseInt(inputModel.getValueAt(i, 0).toString().substring(1));
-                        int arrivalTime = Integer.parseInt(inputModel.getValueAt(i, 1).toString());
-                        int burstTime = Integer.parseInt(inputModel.getValueAt(i, 2).toString());
-                        int priority = priorityStr.isEmpty() ? 0 : Integer.parseInt(priorityStr);
-                        selectedProcesses.add(new Process(id, arrivalTime, burstTime, priority));
+                        selected[i] = true;
+                        totalBurstTime += inputModel.getBurstTime(i);
                     }
                 }
+                ProcessTable selectedProcesses = inputModel.toProcessTable(selected);
 
-                if (selectedProcesses.isEmpty()) {
+                if (selectedProcesses.size() == 0) {
                     JOptionPane.showMessageDialog(selectDialog, "Please select at least one process!", "Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
 
-                // Keep previous calculations in the output table
-                try {
-                    switch (selectedMethod) {
-                        case "FCFS (First Come First Serve)":
-                            SchedulingAlgorithms.fcfs(selectedProcesses, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField);
-                            break;
-                        case "SJF (Shortest Job First)":
-                            SchedulingAlgorithms.sjf(selectedProcesses, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField);
-                            break;
-                        case "Priority Scheduling":
-                            SchedulingAlgorithms.priorityScheduling(selectedProcesses, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField);
-                            break;
-                        case "Round Robin":
-                            int timeQuantum = Integer.parseInt(txtTimeQuantum.getText());
-                            SchedulingAlgorithms.roundRobin(selectedProcesses, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, timeQuantum);
-                            break;
-                        default:
-                            JOptionPane.showMessageDialog(frame, "Invalid scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
-                    }
-                } catch (NumberFormatException ex) {
-                    JOptionPane.showMessageDialog(frame, "Invalid Time Quantum for Round Robin!", "Error", JOptionPane.ERROR_MESSAGE);
-                }
                 selectDialog.dispose();
+
+                // Run on a background thread; the result replaces the output table when done
+                String quantumText = txtTimeQuantum.getText();
+                RunMonitor monitor = new RunMonitor();
+                AtomicReference<String> summary = new AtomicReference<>();
+                EngineWorker<SchedulingResult> run = new EngineWorker<>(selectedMethod,
+                        () -> runCached(resultCache, selectedMethod, selectedProcesses, quantumText, monitor, summary),
+                        monitor, totalBurstTime, statusBar, btnCancel, runControls,
+                        result -> {
+                            if (result == null) {
+                                JOptionPane.showMessageDialog(frame, "Invalid scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                                return;
+                            }
+                            showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                            lastResult.set(result);
+                            statusBar.setText(summary.get());
+                        },
+                        error -> showRunError(frame, error));
+                activeRun.set(run);
+                run.start();
             });
 
             selectDialog.add(new JScrollPane(checkBoxPanel), BorderLayout.CENTER);
@@ -391,36 +641,402 @@ public class CPUSchedulingSimulator {
             selectDialog.setLocationRelativeTo(frame);
             selectDialog.setVisible(true);
         });
-        btnExport.addActionListener(e -> {
+        // Streams an arrival-sorted CSV or binary (.cpw) trace straight into the engine; only aggregates are kept
+        btnRunTrace.addActionListener(e -> {
+            String selectedMethod = (String) schedulingMethods.getSelectedItem();
+            JFileChooser chooser = new JFileChooser(".");
+            if (selectedMethod == null || chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+
+            File traceFile = chooser.getSelectedFile();
+            String quantumText = txtTimeQuantum.getText();
+            RunMonitor monitor = new RunMonitor();
+            AtomicReference<String> summary = new AtomicReference<>();
+            EngineWorker<SchedulingResult> run = new EngineWorker<>(selectedMethod + " on " + traceFile.getName(),
+                    () -> {
+                        if (BinaryWorkload.isBinaryWorkload(traceFile.toPath())) {
+                            try (BinaryWorkload.Reader reader = BinaryWorkload.open(traceFile.toPath())) {
+                                return runSelectedMethod(selectedMethod, null, reader, quantumText, monitor, summary);
+                            }
+                        }
+                        try (CsvTraceReader reader = new CsvTraceReader(traceFile.toPath())) {
+                            return runSelectedMethod(selectedMethod, null, reader, quantumText, monitor, summary);
+                        }
+                    },
+                    monitor, 0, statusBar, btnCancel, runControls,
+                    result -> {
+                        if (result == null) {
+                            JOptionPane.showMessageDialog(frame, "Invalid scheduling method!", "Error", JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+                        showResult(result, outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                        lastResult.set(result);
+                        statusBar.setText(summary.get());
+                    },
+                    error -> showRunError(frame, error));
+            activeRun.set(run);
+            run.start();
+        });
+        // Runs all algorithms side by side on the whole input table
+        btnCompareAll.addActionListener(e -> {
             try {
-                // Add timestamp to filename
-                String timestamp = String.format("%tF_%tH-%tM-%tS", 
-                    System.currentTimeMillis(), 
-                    System.currentTimeMillis(), 
-                    System.currentTimeMillis(), 
-                    System.currentTimeMillis());
-                File file = new File("output_" + timestamp + ".csv");
-                FileWriter writer = new FileWriter(file);
-
-                for (int i = 0; i < outputModel.getColumnCount(); i++) {
-                    writer.write(outputModel.getColumnName(i) + ",");
+                ProcessTable workload = inputModel.toProcessTable();
+                if (workload.size() == 0) {
+                    JOptionPane.showMessageDialog(frame, "Please add at least one process!", "Error", JOptionPane.ERROR_MESSAGE);
+                    return;
                 }
-                writer.write("\n");
 
-                for (int i = 0; i < outputModel.getRowCount(); i++) {
-                    for (int j = 0; j < outputModel.getColumnCount(); j++) {
-                        writer.write(outputModel.getValueAt(i, j).toString() + ",");
+                String quantaText = txtTimeQuantum.getText().trim();
+                String[] quantaParts = quantaText.isEmpty() ? new String[]{"1", "2", "4", "8"} : quantaText.split(",");
+                int[] timeQuanta = new int[quantaParts.length];
+                for (int i = 0; i < quantaParts.length; i++) {
+                    timeQuanta[i] = Integer.parseInt(quantaParts[i].trim());
+                    if (timeQuanta[i] <= 0) {
+                        throw new NumberFormatException();
                     }
-                    writer.write("\n");
                 }
 
-                writer.close();
-                JOptionPane.showMessageDialog(frame, "Results exported successfully to " + file.getName() + "!", "Info", JOptionPane.INFORMATION_MESSAGE);
-            } catch (IOException ex) {
-                JOptionPane.showMessageDialog(frame, "Failed to export results: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                // Every run adds its progress to the one monitor, so the total work is one
+                // workload's burst time per run
+                long totalBurstTime = 0;
+                for (int i = 0; i < workload.size(); i++) {
+                    totalBurstTime += workload.getBurstTime(i);
+                }
+                RunMonitor monitor = new RunMonitor();
+                long start = System.nanoTime();
+                EngineWorker<SchedulingResult[]> run = new EngineWorker<>("Compare All",
+                        () -> AlgorithmComparison.runAll(workload, timeQuanta, monitor),
+                        monitor, totalBurstTime * (AlgorithmComparison.FIXED_RUNS + timeQuanta.length),
+                        statusBar, btnCancel, runControls,
+                        results -> {
+                            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                            String[] matrixColumns = {"Algorithm", "Avg. Turnaround", "Avg. Waiting", "Throughput", "Total CPU Burst", "CPU Utilization (%)", "Deadline Misses"};
+                            Object[][] matrix = new Object[results.length][];
+                            for (int i = 0; i < results.length; i++) {
+                                SchedulingResult result = results[i];
+                                matrix[i] = new Object[]{
+                                    result.getAlgorithm(),
+                                    String.format("%.2f", result.getAverageTurnaroundTime()),
+                                    String.format("%.2f", result.getAverageWaitingTime()),
+                                    String.format("%.2f", result.getThroughput()),
+                                    result.getTotalBurstTime(),
+                                    String.format("%.2f%%", result.getCpuUtilization()),
+                                    result.getDeadlineCount() == 0 ? "-" : String.format("%d (%.1f%%)", result.getMissedDeadlines(), result.getDeadlineMissRatio() * 100)
+                                };
+                            }
+
+                            JTable matrixTable = new JTable(new DefaultTableModel(matrix, matrixColumns));
+                            JScrollPane matrixScrollPane = new JScrollPane(matrixTable);
+                            matrixScrollPane.setPreferredSize(new Dimension(860, 60 + 20 * results.length));
+                            statusBar.setText("Compared " + results.length + " runs on " + workload.size() + " processes in " + elapsedMillis + " ms");
+                            JOptionPane.showMessageDialog(frame, matrixScrollPane, "Algorithm Comparison", JOptionPane.PLAIN_MESSAGE);
+                        },
+                        error -> showRunError(frame, error));
+                activeRun.set(run);
+                run.start();
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "Time quanta must be positive integers separated by commas!", "Error", JOptionPane.ERROR_MESSAGE);
             }
         });
 
+        // Replicates the Compare All line-up over generated workloads; RR uses the quanta field like Compare All
+        btnMonteCarlo.addActionListener(e -> {
+            WorkloadForm form = new WorkloadForm();
+            JTextField txtReplicas = new JTextField("100");
+            form.addRow("Replicas", txtReplicas);
+            int confirm = JOptionPane.showConfirmDialog(frame, form.panel, "Monte Carlo Replications",
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (confirm != JOptionPane.OK_OPTION) {
+                return;
+            }
+
+            int processes;
+            int replicas;
+            long seed;
+            WorkloadGenerator spec;
+            int[] timeQuanta;
+            try {
+                processes = form.getCount();
+                seed = form.getSeed();
+                spec = form.toGenerator();
+                replicas = Integer.parseInt(txtReplicas.getText().trim());
+                String quantaText = txtTimeQuantum.getText().trim();
+                String[] quantaParts = quantaText.isEmpty() ? new String[]{"1", "2", "4", "8"} : quantaText.split(",");
+                timeQuanta = new int[quantaParts.length];
+                for (int i = 0; i < quantaParts.length; i++) {
+                    timeQuanta[i] = Integer.parseInt(quantaParts[i].trim());
+                    if (timeQuanta[i] <= 0) {
+                        throw new IllegalArgumentException("Time quanta must be positive integers separated by commas!");
+                    }
+                }
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "Please enter valid numeric values!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(frame, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            long start = System.nanoTime();
+            RunMonitor monitor = new RunMonitor();
+            EngineWorker<MonteCarloResult> run = new EngineWorker<>("Monte Carlo (" + replicas + " replicas)",
+                    () -> MonteCarloRunner.run(spec, seed, processes, replicas, timeQuanta, monitor),
+                    monitor, 0, statusBar, btnCancel, runControls,
+                    result -> {
+                        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                        String[] columns = new String[MonteCarloResult.METRICS.length + 1];
+                        columns[0] = "Algorithm";
+                        System.arraycopy(MonteCarloResult.METRICS, 0, columns, 1, MonteCarloResult.METRICS.length);
+                        String[] algorithms = result.getAlgorithms();
+                        Object[][] matrix = new Object[algorithms.length][columns.length];
+                        for (int a = 0; a < algorithms.length; a++) {
+                            matrix[a][0] = algorithms[a];
+                            for (int m = 0; m < MonteCarloResult.METRICS.length; m++) {
+                                matrix[a][m + 1] = String.format("%.2f \u00b1 %.2f", result.getMean(a, m), result.getHalfWidth(a, m));
+                            }
+                        }
+
+                        JTable matrixTable = new JTable(new DefaultTableModel(matrix, columns));
+                        JScrollPane matrixScrollPane = new JScrollPane(matrixTable);
+                        matrixScrollPane.setPreferredSize(new Dimension(1100, 60 + 20 * algorithms.length));
+                        statusBar.setText("Ran " + replicas + " replicas of " + processes + " processes in " + elapsedMillis + " ms");
+                        JOptionPane.showMessageDialog(frame, matrixScrollPane, "Monte Carlo: mean \u00b1 95% confidence interval over "
+                                + replicas + " replicas", JOptionPane.PLAIN_MESSAGE);
+                    },
+                    error -> JOptionPane.showMessageDialog(frame, "Monte Carlo run failed: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            activeRun.set(run);
+            run.start();
+        });
+
+        // Runs one generated workload with deadlines at increasing offered loads; the loads replace
+        // the form's inter-arrival time
+        btnDeadlineSweep.addActionListener(e -> {
+            WorkloadForm form = new WorkloadForm();
+            form.txtDeadlineSlack.setText("5,20");
+            StringBuilder defaultLoads = new StringBuilder();
+            for (double load : DeadlineSweep.DEFAULT_LOADS) {
+                defaultLoads.append(defaultLoads.length() == 0 ? "" : ",").append(load);
+            }
+            JTextField txtLoads = new JTextField(defaultLoads.toString());
+            JTextField txtThreshold = new JTextField(String.valueOf(DeadlineSweep.DEFAULT_MISS_THRESHOLD * 100));
+            form.addRow("Offered loads (burst / inter-arrival)", txtLoads);
+            form.addRow("Overload at miss ratio (%)", txtThreshold);
+            int confirm = JOptionPane.showConfirmDialog(frame, form.panel, "Deadline Sweep",
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (confirm != JOptionPane.OK_OPTION) {
+                return;
+            }
+
+            int processes;
+            WorkloadGenerator spec;
+            double[] loads;
+            double missThreshold;
+            try {
+                processes = form.getCount();
+                spec = form.toGenerator();
+                String[] loadParts = txtLoads.getText().split(",");
+                loads = new double[loadParts.length];
+                for (int i = 0; i < loads.length; i++) {
+                    loads[i] = Double.parseDouble(loadParts[i].trim());
+                }
+                missThreshold = Double.parseDouble(txtThreshold.getText().trim()) / 100;
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "Please enter valid numeric values!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(frame, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            long start = System.nanoTime();
+            RunMonitor monitor = new RunMonitor();
+            EngineWorker<DeadlineSweepResult> run = new EngineWorker<>("Deadline sweep (" + loads.length + " loads)",
+                    () -> DeadlineSweep.run(spec, processes, loads, missThreshold, monitor),
+                    monitor, 0, statusBar, btnCancel, runControls,
+                    result -> {
+                        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                        String[] algorithms = result.getAlgorithms();
+                        String[] columns = new String[algorithms.length + 2];
+                        columns[0] = "Load";
+                        columns[1] = "Arrival Rate";
+                        System.arraycopy(algorithms, 0, columns, 2, algorithms.length);
+                        // One row per load, then the interpolated overload point of each policy
+                        Object[][] matrix = new Object[result.getLoadCount() + 1][columns.length];
+                        for (int l = 0; l < result.getLoadCount(); l++) {
+                            matrix[l][0] = String.format("%.2f", result.getLoad(l));
+                            matrix[l][1] = String.format("%.4f", result.getArrivalRate(l));
+                            for (int a = 0; a < algorithms.length; a++) {
+                                matrix[l][a + 2] = String.format("%.1f%% / %d", result.getMissRatio(a, l) * 100, result.getP99Lateness(a, l));
+                            }
+                        }
+                        matrix[result.getLoadCount()][0] = "Overload";
+                        matrix[result.getLoadCount()][1] = "";
+                        for (int a = 0; a < algorithms.length; a++) {
+                            double overload = result.getOverloadPoint(a);
+                            matrix[result.getLoadCount()][a + 2] = Double.isNaN(overload) ? "not reached" : String.format("load %.2f", overload);
+                        }
+
+                        JTable matrixTable = new JTable(new DefaultTableModel(matrix, columns));
+                        JScrollPane matrixScrollPane = new JScrollPane(matrixTable);
+                        matrixScrollPane.setPreferredSize(new Dimension(960, 60 + 20 * matrix.length));
+                        statusBar.setText("Swept " + result.getLoadCount() + " loads of " + processes + " processes in " + elapsedMillis + " ms");
+                        JOptionPane.showMessageDialog(frame, matrixScrollPane, String.format("Deadline misses / p99 lateness by offered load (overload at %.1f%% misses)",
+                                result.getMissThreshold() * 100), JOptionPane.PLAIN_MESSAGE);
+                    },
+                    error -> JOptionPane.showMessageDialog(frame, "Deadline sweep failed: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            activeRun.set(run);
+            run.start();
+        });
+
+        // Simulates several CPUs with the selected non-preemptive ordering
+        btnMultiCore.addActionListener(e -> {
+            String selectedMethod = (String) schedulingMethods.getSelectedItem();
+            int order;
+            if ("FCFS (First Come First Serve)".equals(selectedMethod)) {
+                order = MultiCoreSimulator.ORDER_ARRIVAL;
+            } else if ("SJF (Shortest Job First)".equals(selectedMethod)) {
+                order = MultiCoreSimulator.ORDER_BURST;
+            } else if ("Priority Scheduling".equals(selectedMethod)) {
+                order = MultiCoreSimulator.ORDER_PRIORITY;
+            } else {
+                JOptionPane.showMessageDialog(frame, "Multi-core simulation supports FCFS, SJF and Priority Scheduling.", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            JTextField txtCores = new JTextField("4");
+            JComboBox<String> policies = new JComboBox<>(new String[]{
+                    MultiCoreSimulator.policyName(MultiCoreSimulator.GLOBAL_QUEUE),
+                    MultiCoreSimulator.policyName(MultiCoreSimulator.PER_CORE),
+                    MultiCoreSimulator.policyName(MultiCoreSimulator.WORK_STEALING)
+            });
+            JPanel optionsPanel = new JPanel(new GridLayout(2, 2, 5, 5));
+            optionsPanel.add(new JLabel("Number of CPUs:"));
+            optionsPanel.add(txtCores);
+            optionsPanel.add(new JLabel("Load balancing:"));
+            optionsPanel.add(policies);
+            if (JOptionPane.showConfirmDialog(frame, optionsPanel, "Multi-Core Simulation", JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION) {
+                return;
+            }
+
+            try {
+                int cores = Integer.parseInt(txtCores.getText().trim());
+                ProcessTable workload = inputModel.toProcessTable();
+                if (cores <= 0 || workload.size() == 0) {
+                    throw new IllegalArgumentException("Enter a positive CPU count and at least one process.");
+                }
+                int policy = policies.getSelectedIndex();
+
+                // The 1, 2, 4, ... CPU scaling curve; its last point is the requested run
+                long totalBurstTime = 0;
+                for (int i = 0; i < workload.size(); i++) {
+                    totalBurstTime += workload.getBurstTime(i);
+                }
+                RunMonitor monitor = new RunMonitor();
+                AtomicReference<MultiCoreResult[]> curveResult = new AtomicReference<>();
+                EngineWorker<MultiCoreResult> run = new EngineWorker<>("Multi-core " + selectedMethod,
+                        () -> {
+                            MultiCoreResult[] curve = MultiCoreSimulator.scalingCurve(workload, cores, policy, order, monitor);
+                            curveResult.set(curve);
+                            return curve[curve.length - 1];
+                        },
+                        monitor, totalBurstTime * MultiCoreSimulator.curvePoints(cores), statusBar, btnCancel, runControls,
+                        multiCore -> {
+                            showResult(multiCore.getResult(), outputModel, avgTurnaroundField, avgWaitingField, throughputField, cpuBurstField, cpuUtilizationField, percentileModel, ganttChart);
+                            cpuUtilizationField.setText(String.format("%.2f%%", multiCore.getAverageUtilization()));
+                            lastResult.set(multiCore.getResult());
+                            statusBar.setText(multiCore.getResult().getAlgorithm() + ": " + multiCore.getResult().size() + " processes scheduled"
+                                    + deadlineSummary(multiCore.getResult()));
+
+                            Object[][] coreRows = new Object[cores][];
+                            for (int c = 0; c < cores; c++) {
+                                coreRows[c] = new Object[]{"CPU " + c, multiCore.getBusyTime(c), String.format("%.2f%%", multiCore.getCoreUtilization(c))};
+                            }
+                            MultiCoreResult[] curve = curveResult.get();
+                            Object[][] curveRows = new Object[curve.length][];
+                            for (int i = 0; i < curve.length; i++) {
+                                SchedulingResult point = curve[i].getResult();
+                                curveRows[i] = new Object[]{
+                                    curve[i].getCoreCount(),
+                                    point.getEndTime(),
+                                    String.format("%.2f", curve[0].getResult().getEndTime() / (double) point.getEndTime()),
+                                    String.format("%.2f", point.getAverageWaitingTime()),
+                                    String.format("%.2f%%", curve[i].getAverageUtilization())
+                                };
+                            }
+
+                            JPanel reportPanel = new JPanel(new GridLayout(2, 1, 5, 5));
+                            JScrollPane coreScrollPane = new JScrollPane(new JTable(new DefaultTableModel(coreRows, new String[]{"Core", "Busy Time", "Utilization"})));
+                            coreScrollPane.setBorder(BorderFactory.createTitledBorder("Per-Core Utilization"));
+                            JScrollPane curveScrollPane = new JScrollPane(new JTable(new DefaultTableModel(curveRows, new String[]{"CPUs", "Makespan", "Speedup", "Avg. Waiting", "Avg. Utilization"})));
+                            curveScrollPane.setBorder(BorderFactory.createTitledBorder("Scaling Curve"));
+                            reportPanel.add(coreScrollPane);
+                            reportPanel.add(curveScrollPane);
+                            reportPanel.setPreferredSize(new Dimension(600, 420));
+                            JOptionPane.showMessageDialog(frame, reportPanel, multiCore.getResult().getAlgorithm(), JOptionPane.PLAIN_MESSAGE);
+                        },
+                        error -> showRunError(frame, error));
+                activeRun.set(run);
+                run.start();
+            } catch (NumberFormatException ex) {
+                JOptionPane.showMessageDialog(frame, "Please enter a valid number of CPUs!", "Error", JOptionPane.ERROR_MESSAGE);
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(frame, ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+
+        // Exports the last engine result on a background thread so large runs don't block the UI
+        btnExport.addActionListener(e -> {
+            SchedulingResult result = lastResult.get();
+            if (result == null) {
+                JOptionPane.showMessageDialog(frame, "No results to export!", "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+
+            String[] formats = {"CSV", "Binary (columnar)"};
+            int format = JOptionPane.showOptionDialog(frame, "Select export format:", "Export Results",
+                    JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, formats, formats[0]);
+            if (format == JOptionPane.CLOSED_OPTION) {
+                return;
+            }
+
+            // Add timestamp to filename
+            String timestamp = String.format("%tF_%tH-%tM-%tS", 
+                System.currentTimeMillis(), 
+                System.currentTimeMillis(), 
+                System.currentTimeMillis(), 
+                System.currentTimeMillis());
+            File file = new File("output_" + timestamp + (format == 0 ? ".csv" : ".bin"));
+
+            btnExport.setEnabled(false);
+            statusBar.setText("Exporting " + result.getRowCount() + " rows to " + file.getName() + "...");
+            new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws IOException {
+                    if (format == 0) {
+                        ResultExporter.writeCsv(result, file.toPath());
+                    } else {
+                        ResultExporter.writeColumnar(result, file.toPath());
+                    }
+                    return null;
+                }
+
+                @Override
+                protected void done() {
+                    btnExport.setEnabled(true);
+                    try {
+                        get();
+                        statusBar.setText("Exported " + result.getRowCount() + " rows to " + file.getName());
+                        JOptionPane.showMessageDialog(frame, "Results exported successfully to " + file.getName() + "!", "Info", JOptionPane.INFORMATION_MESSAGE);
+                    } catch (InterruptedException | ExecutionException ex) {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        statusBar.setText("Export failed");
+                        JOptionPane.showMessageDialog(frame, "Failed to export results: " + cause.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }.execute();
+        });
+
         // Add clear output button listener
         btnClearOutput.addActionListener(e -> {
             int confirm = JOptionPane.showConfirmDialog(frame, 
@@ -428,15 +1044,332 @@ public class CPUSchedulingSimulator {
                 "Confirm Clear", 
                 JOptionPane.YES_NO_OPTION);
             if (confirm == JOptionPane.YES_OPTION) {
-                outputModel.setRowCount(0);
+                outputModel.clear();
+                lastResult.set(null);
+                ganttChart.setTimeline(null);
                 avgTurnaroundField.setText("");
                 avgWaitingField.setText("");
                 throughputField.setText("");
                 cpuBurstField.setText("");
                 cpuUtilizationField.setText("");
+                percentileModel.setRowCount(0);
             }
         });
 
         frame.setVisible(true);
     }
-}
+
+    // Runs the selected method either on the checked input rows (table, all rows and the
+    // timeline kept) or on a streamed trace (aggregates only), and puts a one-line summary for
+    // the status bar into summary. Called off the event dispatch thread; returns null for an
+    // unknown method.
+    static SchedulingResult runSelectedMethod(String method, ProcessTable table, ProcessSource trace,
+            String quantumText, RunMonitor monitor, AtomicReference<String> summary) {
+        int[] parameters = methodParameters(method, quantumText);
+        Timeline timeline = new Timeline();
+        SchedulingResult result;
+        switch (method) {
+            case "FCFS (First Come First Serve)":
+                result = table != null ? SchedulingAlgorithms.fcfs(table, timeline, monitor) : SchedulingAlgorithms.fcfs(trace, null, monitor);
+                break;
+            case "SJF (Shortest Job First)":
+                result = table != null ? SchedulingAlgorithms.sjf(table, timeline, monitor) : SchedulingAlgorithms.sjf(trace, null, monitor);
+                break;
+            case "Priority Scheduling":
+                result = table != null ? SchedulingAlgorithms.priorityScheduling(table, timeline, monitor) : SchedulingAlgorithms.priorityScheduling(trace, null, monitor);
+                break;
+            case "Round Robin":
+                int timeQuantum = parameters[0];
+                result = table != null ? SchedulingAlgorithms.roundRobin(table, timeQuantum, timeline, monitor) : SchedulingAlgorithms.roundRobin(trace, null, timeQuantum, monitor);
+                break;
+            case "SRTF (Shortest Remaining Time First)":
+                result = table != null ? SchedulingAlgorithms.srtf(table, timeline, monitor) : SchedulingAlgorithms.srtf(trace, null, monitor);
+                break;
+            case "Preemptive Priority Scheduling":
+                result = table != null ? SchedulingAlgorithms.preemptivePriority(table, timeline, monitor) : SchedulingAlgorithms.preemptivePriority(trace, null, monitor);
+                break;
+            case "EDF (Earliest Deadline First)":
+                result = table != null ? SchedulingAlgorithms.edf(table, timeline, monitor) : SchedulingAlgorithms.edf(trace, null, monitor);
+                break;
+            case "Preemptive EDF":
+                result = table != null ? SchedulingAlgorithms.preemptiveEdf(table, timeline, monitor) : SchedulingAlgorithms.preemptiveEdf(trace, null, monitor);
+                break;
+            case "MLFQ (Multilevel Feedback Queue)":
+                int[] levelQuanta = Arrays.copyOf(parameters, parameters.length - 1);
+                int boostInterval = parameters[parameters.length - 1];
+                MlfqResult mlfq = table != null ? SchedulingAlgorithms.mlfq(table, levelQuanta, boostInterval, timeline, monitor)
+                        : SchedulingAlgorithms.mlfq(trace, null, levelQuanta, boostInterval, monitor);
+                summary.set(String.format("MLFQ: %d processes, max wait High/Medium/Low = %d/%d/%d, %d boosts",
+                        mlfq.getResult().size(), mlfq.getMaxWaitTime(Process.HIGH_PRIORITY),
+                        mlfq.getMaxWaitTime(Process.MEDIUM_PRIORITY), mlfq.getMaxWaitTime(Process.LOW_PRIORITY),
+                        mlfq.getBoostCount()) + deadlineSummary(mlfq.getResult()));
+                return mlfq.getResult();
+            case "CFS (Completely Fair Scheduler)":
+                int targetLatency = parameters[0];
+                int minGranularity = parameters[1];
+                CfsResult cfs = table != null ? SchedulingAlgorithms.cfs(table, targetLatency, minGranularity, timeline, monitor)
+                        : SchedulingAlgorithms.cfs(trace, null, targetLatency, minGranularity, monitor);
+                summary.set(String.format("CFS: %d processes, fairness error mean %.2f, p99 %d, max %.2f",
+                        cfs.getResult().size(), cfs.getMeanFairnessError(),
+                        cfs.getFairnessErrors().getValueAtPercentile(99), cfs.getMaxFairnessError()) + deadlineSummary(cfs.getResult()));
+                return cfs.getResult();
+            default:
+                return null;
+        }
+        summary.set(result.getAlgorithm() + ": " + result.size() + " processes scheduled" + deadlineSummary(result));
+        return result;
+    }
+
+    // The numbers a method runs with, parsed from the quantum field with defaults filled in: the
+    // quantum for Round Robin, the level quanta then the boost interval for MLFQ, the target
+    // latency and minimum granularity for CFS, and none for the other methods. Throws
+    // NumberFormatException for text the method cannot use.
+    static int[] methodParameters(String method, String quantumText) {
+        String text = quantumText.trim();
+        switch (method) {
+            case "Round Robin":
+                int timeQuantum = Integer.parseInt(text);
+                if (timeQuantum <= 0) {
+                    throw new NumberFormatException();
+                }
+                return new int[]{timeQuantum};
+            case "MLFQ (Multilevel Feedback Queue)":
+                int levels = SchedulingAlgorithms.DEFAULT_MLFQ_QUANTA.length;
+                int[] mlfq = Arrays.copyOf(SchedulingAlgorithms.DEFAULT_MLFQ_QUANTA, levels + 1);
+                mlfq[levels] = SchedulingAlgorithms.DEFAULT_MLFQ_BOOST_INTERVAL;
+                if (!text.isEmpty()) {
+                    String[] parts = text.split(",");
+                    if (parts.length < levels || parts.length > levels + 1) {
+                        throw new NumberFormatException();
+                    }
+                    for (int i = 0; i < parts.length; i++) {
+                        mlfq[i] = Integer.parseInt(parts[i].trim());
+                        if (i < levels ? mlfq[i] <= 0 : mlfq[i] < 0) {
+                            throw new NumberFormatException();
+                        }
+                    }
+                }
+                return mlfq;
+            case "CFS (Completely Fair Scheduler)":
+                int[] cfs = {SchedulingAlgorithms.DEFAULT_CFS_TARGET_LATENCY, SchedulingAlgorithms.DEFAULT_CFS_MIN_GRANULARITY};
+                if (!text.isEmpty()) {
+                    String[] parts = text.split(",");
+                    if (parts.length > 2) {
+                        throw new NumberFormatException();
+                    }
+                    for (int i = 0; i < parts.length; i++) {
+                        cfs[i] = Integer.parseInt(parts[i].trim());
+                        if (cfs[i] <= 0) {
+                            throw new NumberFormatException();
+                        }
+                    }
+                }
+                return cfs;
+            default:
+                return new int[0];
+        }
+    }
+
+    // Deadline misses for the status bar, or nothing when no process had a deadline
+    private static String deadlineSummary(SchedulingResult result) {
+        if (result.getDeadlineCount() == 0) {
+            return "";
+        }
+        return String.format(", %d of %d deadlines missed (%.1f%%), p99 lateness %d", result.getMissedDeadlines(),
+                result.getDeadlineCount(), result.getDeadlineMissRatio() * 100,
+                result.getLatenessHistogram().getValueAtPercentile(99));
+    }
+
+    // runSelectedMethod on a table, answered from the cache when the same rows were already run
+    // with the same method and parameters. The key holds the parsed parameters, so "4" and
+    // " 04" share an entry, an empty field matches the defaults typed out, and methods without
+    // parameters ignore the field.
+    private static SchedulingResult runCached(ResultCache<CachedRun> cache, String method, ProcessTable table,
+            String quantumText, RunMonitor monitor, AtomicReference<String> summary) {
+        ResultCache.Key key = ResultCache.key(table, method, methodParameters(method, quantumText));
+        CachedRun cached = cache.get(key);
+        if (cached != null) {
+            summary.set(cached.summary + " (cached; " + cache.getHits() + " hits, " + cache.getMisses() + " misses)");
+            return cached.result;
+        }
+        SchedulingResult result = runSelectedMethod(method, table, null, quantumText, monitor, summary);
+        if (result != null) {
+            cache.put(key, new CachedRun(result, summary.get()), ResultCache.estimateBytes(result));
+        }
+        return result;
+    }
+
+    // Opens the saved-test store on first use and keeps it open afterwards
+    private static final class LazyTestStore {
+        private final Path directory;
+        private TestStore store;
+
+        LazyTestStore(Path directory) {
+            this.directory = directory;
+        }
+
+        TestStore get() throws IOException {
+            if (store == null) {
+                store = new TestStore(directory);
+            }
+            return store;
+        }
+    }
+
+    // Workload generator settings shared by the Generate, Monte Carlo and Deadline Sweep dialogs
+    private static final class WorkloadForm {
+        final JPanel panel = new JPanel(new GridLayout(0, 2, 8, 4));
+        private final JTextField txtCount = new JTextField("10000");
+        private final JTextField txtSeed = new JTextField("42");
+        private final JComboBox<String> arrivalModels = new JComboBox<>(new String[]{"Poisson", "Bursty"});
+        private final JTextField txtMeanGap = new JTextField("10");
+        private final JTextField txtGroupSize = new JTextField("50");
+        private final JComboBox<String> burstModels = new JComboBox<>(new String[]{"Exponential", "Pareto"});
+        private final JTextField txtMeanBurst = new JTextField("9");
+        private final JTextField txtShape = new JTextField("1.5");
+        private final JTextField txtWeights = new JTextField("1,1,1");
+        final JTextField txtDeadlineSlack = new JTextField();
+
+        WorkloadForm() {
+            addRow("Processes", txtCount);
+            addRow("Seed", txtSeed);
+            addRow("Arrivals", arrivalModels);
+            addRow("Mean inter-arrival time", txtMeanGap);
+            addRow("Mean group size (bursty)", txtGroupSize);
+            addRow("Burst times", burstModels);
+            addRow("Mean burst time", txtMeanBurst);
+            addRow("Pareto shape", txtShape);
+            addRow("Priority weights (0,1,2,...)", txtWeights);
+            addRow("Deadline slack min[,max] (blank: none)", txtDeadlineSlack);
+        }
+
+        void addRow(String label, JComponent field) {
+            panel.add(new JLabel(label));
+            panel.add(field);
+        }
+
+        int getCount() {
+            int count = Integer.parseInt(txtCount.getText().trim());
+            if (count <= 0) {
+                throw new IllegalArgumentException("The number of processes must be positive.");
+            }
+            return count;
+        }
+
+        long getSeed() {
+            return Long.parseLong(txtSeed.getText().trim());
+        }
+
+        WorkloadGenerator toGenerator() {
+            WorkloadGenerator generator = new WorkloadGenerator(getSeed());
+            double meanGap = Double.parseDouble(txtMeanGap.getText().trim());
+            if (arrivalModels.getSelectedIndex() == WorkloadGenerator.ARRIVALS_BURSTY) {
+                generator.burstyArrivals(meanGap, Double.parseDouble(txtGroupSize.getText().trim()));
+            } else {
+                generator.poissonArrivals(meanGap);
+            }
+            double meanBurst = Double.parseDouble(txtMeanBurst.getText().trim());
+            if (burstModels.getSelectedIndex() == WorkloadGenerator.BURSTS_PARETO) {
+                generator.paretoBursts(meanBurst, Double.parseDouble(txtShape.getText().trim()));
+            } else {
+                generator.exponentialBursts(meanBurst);
+            }
+            String[] weightParts = txtWeights.getText().split(",");
+            int[] weights = new int[weightParts.length];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = Integer.parseInt(weightParts[i].trim());
+            }
+            generator.priorityWeights(weights);
+            // Deadline = burst time * a slack drawn from [min, max]
+            String slackText = txtDeadlineSlack.getText().trim();
+            if (!slackText.isEmpty()) {
+                String[] slackParts = slackText.split(",");
+                double minSlack = Double.parseDouble(slackParts[0].trim());
+                double maxSlack = slackParts.length > 1 ? Double.parseDouble(slackParts[1].trim()) : minSlack;
+                generator.deadlineSlack(minSlack, maxSlack);
+            }
+            return generator;
+        }
+    }
+
+    // A cached result and the status line it was shown with
+    private static final class CachedRun {
+        final SchedulingResult result;
+        final String summary;
+
+        CachedRun(SchedulingResult result, String summary) {
+            this.result = result;
+            this.summary = summary;
+        }
+    }
+
+    // Reports a background run that failed
+    private static void showRunError(JFrame frame, Throwable error) {
+        if (error instanceof NumberFormatException) {
+            JOptionPane.showMessageDialog(frame, "Invalid Time Quantum for Round Robin, MLFQ or CFS!", "Error", JOptionPane.ERROR_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(frame, "Run failed: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Order used by the incremental and multi-core engines for a non-preemptive method, or -1
+    private static int nonPreemptiveOrder(String method) {
+        switch (method) {
+            case "FCFS (First Come First Serve)": return IncrementalScheduler.ORDER_ARRIVAL;
+            case "SJF (Shortest Job First)": return IncrementalScheduler.ORDER_BURST;
+            case "Priority Scheduling": return IncrementalScheduler.ORDER_PRIORITY;
+            default: return -1;
+        }
+    }
+
+    // Replays a single-row insert, delete or cell edit of the input table on the incremental
+    // scheduler. Returns false when the change can't be applied row by row.
+    private static boolean applyInputEdit(TableModelEvent e, ProcessTableModel inputModel, IncrementalScheduler scheduler) {
+        int row = e.getFirstRow();
+        if (row == TableModelEvent.HEADER_ROW || e.getLastRow() != row) {
+            return false;
+        }
+        if (e.getType() == TableModelEvent.DELETE) {
+            scheduler.removeRow(row);
+        } else if (e.getType() == TableModelEvent.UPDATE) {
+            scheduler.updateRow(row, inputModel.getId(row), inputModel.getArrivalTime(row),
+                    inputModel.getBurstTime(row), inputModel.getPriority(row), inputModel.getDeadline(row));
+        } else {
+            scheduler.insertRow(row, inputModel.getId(row), inputModel.getArrivalTime(row),
+                    inputModel.getBurstTime(row), inputModel.getPriority(row), inputModel.getDeadline(row));
+        }
+        return true;
+    }
+
+    // Presents an engine result in the output table and metric fields
+    private static void showResult(SchedulingResult result, ResultTableModel model, JTextField avgTurnaround,
+            JTextField avgWaiting, JTextField throughput, JTextField cpuBurst, JTextField cpuUtilization,
+            DefaultTableModel percentileModel, GanttChart ganttChart) {
+        model.setResult(result);
+        ganttChart.setTimeline(result.getTimeline());
+
+        avgTurnaround.setText(String.format("%.2f", result.getAverageTurnaroundTime()));
+        avgWaiting.setText(String.format("%.2f", result.getAverageWaitingTime()));
+        throughput.setText(String.format("%.2f", result.getThroughput()));
+        cpuBurst.setText(String.valueOf(result.getTotalBurstTime()));
+        cpuUtilization.setText(String.format("%.2f%%", result.getCpuUtilization()));
+
+        percentileModel.setRowCount(0);
+        addPercentileRow(percentileModel, "Waiting Time", result.getWaitingHistogram());
+        addPercentileRow(percentileModel, "Response Time", result.getResponseHistogram());
+        addPercentileRow(percentileModel, "Turnaround Time", result.getTurnaroundHistogram());
+        if (result.getDeadlineCount() > 0) {
+            addPercentileRow(percentileModel, "Lateness", result.getLatenessHistogram());
+        }
+    }
+
+    private static void addPercentileRow(DefaultTableModel model, String metric, LatencyHistogram histogram) {
+        int[] summary = histogram.getSummary();
+        Object[] row = new Object[summary.length + 1];
+        row[0] = metric;
+        for (int i = 0; i < summary.length; i++) {
+            row[i + 1] = summary[i];
+        }
+        model.addRow(row);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+// Result of a CFS run plus its fairness metrics. A process's fairness error is the largest lag
+// it had against an ideal processor sharing the CPU among the runnable processes in proportion
+// to weight, i.e. how far its CPU time fell behind or ran ahead of its fair share, in time units.
+public class CfsResult {
+    private final SchedulingResult result;
+    private final LatencyHistogram fairnessErrors;
+    private final double maxFairnessError;
+    private final double meanFairnessError;
+    private final double[] rowErrors;
+
+    // rowErrors follows the result's rows, or is null when the run kept no rows
+    public CfsResult(SchedulingResult result, LatencyHistogram fairnessErrors, double maxFairnessError,
+            double meanFairnessError, double[] rowErrors) {
+        this.result = result;
+        this.fairnessErrors = fairnessErrors;
+        this.maxFairnessError = maxFairnessError;
+        this.meanFairnessError = meanFairnessError;
+        this.rowErrors = rowErrors;
+    }
+
+    public SchedulingResult getResult() {
+        return result;
+    }
+
+    // Per-process fairness errors, rounded up to whole time units
+    public LatencyHistogram getFairnessErrors() {
+        return fairnessErrors;
+    }
+
+    public double getMaxFairnessError() {
+        return maxFairnessError;
+    }
+
+    public double getMeanFairnessError() {
+        return meanFairnessError;
+    }
+
+    public boolean hasRowErrors() {
+        return rowErrors != null;
+    }
+
+    // Fairness error of the process in result row i
+    public double getFairnessError(int i) {
+        return rowErrors[i];
+    }
+}
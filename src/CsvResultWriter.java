@@ -0,0 +1,150 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Buffered CSV writer for result rows in the output table's layout
+// (Algorithm, Process ID, Response, Turnaround, Completion, Waiting, each followed by a comma).
+// Numbers are formatted straight into a byte buffer, so rows are written without building
+// strings. It is also a ResultSink, so streamed runs can write rows as processes finish.
+public class CsvResultWriter implements ResultSink, Closeable {
+    public static final String[] COLUMNS = {"Algorithm", "Process ID", "Response Time", "Turnaround Time", "Completion Time", "Waiting Time"};
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[11];
+    private byte[] algorithm;
+    private int count;
+
+    public CsvResultWriter(Path path, String algorithm) throws IOException {
+        this.out = Files.newOutputStream(path);
+        setAlgorithm(algorithm);
+        for (String column : COLUMNS) {
+            writeBytes(column.getBytes(StandardCharsets.UTF_8));
+            writeByte(',');
+        }
+        writeByte('\n');
+    }
+
+    // The label written in the first column of subsequent rows
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void writeAll(SchedulingResult result) {
+        setAlgorithm(result.getAlgorithm());
+        for (int i = 0; i < result.getRowCount(); i++) {
+            add(result.getProcessId(i), result.getResponseTime(i), result.getTurnaroundTime(i),
+                    result.getCompletionTime(i), result.getWaitingTime(i));
+        }
+    }
+
+    // Appends a blank line and the result's percentile summary: one row per metric with
+    // p50, p90, p99, p99.9 and max
+    public void writePercentiles(SchedulingResult result) {
+        writeByte('\n');
+        writeBytes("Metric,".getBytes(StandardCharsets.UTF_8));
+        for (String label : LatencyHistogram.REPORTED_LABELS) {
+            writeBytes(label.getBytes(StandardCharsets.UTF_8));
+            writeByte(',');
+        }
+        writeBytes("Max,".getBytes(StandardCharsets.UTF_8));
+        writeByte('\n');
+        writePercentileRow("Waiting Time", result.getWaitingHistogram());
+        writePercentileRow("Response Time", result.getResponseHistogram());
+        writePercentileRow("Turnaround Time", result.getTurnaroundHistogram());
+        if (result.getDeadlineCount() > 0) {
+            writePercentileRow("Lateness", result.getLatenessHistogram());
+        }
+    }
+
+    private void writePercentileRow(String metric, LatencyHistogram histogram) {
+        writeBytes(metric.getBytes(StandardCharsets.UTF_8));
+        writeByte(',');
+        for (int value : histogram.getSummary()) {
+            writeInt(value);
+        }
+        writeByte('\n');
+    }
+
+    @Override
+    public void add(int id, int responseTime, int turnaroundTime, int completionTime, int waitingTime) {
+        writeBytes(algorithm);
+        writeByte(',');
+        writeByte('P');
+        writeInt(id);
+        writeInt(responseTime);
+        writeInt(turnaroundTime);
+        writeInt(completionTime);
+        writeInt(waitingTime);
+        writeByte('\n');
+    }
+
+    // Writes value followed by a comma
+    private void writeInt(int value) {
+        if (count + digits.length + 2 > buffer.length) {
+            flushBuffer();
+        }
+        long v = value;
+        if (v < 0) {
+            buffer[count++] = '-';
+            v = -v;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + (v % 10));
+            v /= 10;
+        } while (v != 0);
+        while (length > 0) {
+            buffer[count++] = digits[--length];
+        }
+        buffer[count++] = ',';
+    }
+
+    private void writeByte(int b) {
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (count + bytes.length > buffer.length) {
+            flushBuffer();
+        }
+        if (bytes.length > buffer.length) {
+            write(bytes, bytes.length);
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void flushBuffer() {
+        write(buffer, count);
+        count = 0;
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            out.close();
+        }
+    }
+}
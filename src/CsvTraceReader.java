@@ -0,0 +1,206 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Streams an arrival-sorted CSV trace (Process ID, Arrival Time, Burst Time, Priority and an
+// optional relative Deadline) into the engine. The file is memory-mapped one window at a time
+// and parsed straight from the mapped bytes, so heap use stays constant however large the
+// trace is.
+// IDs may carry the "P" prefix used by the input table, trailing commas are ignored, an empty
+// priority defaults to 0 and an empty or 0 deadline means none. The first non-blank line is
+// skipped as a header when none of its columns is a number; any other line that does not parse
+// is reported with its line number.
+public class CsvTraceReader implements ProcessSource, Closeable {
+    private static final long WINDOW_SIZE = 64L << 20;
+    private static final int LINE_OK = 0;
+    private static final int LINE_BLANK = 1;
+    private static final int LINE_INVALID = 2;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+    private long position;
+    private long lineNumber;
+
+    private int id;
+    private int arrivalTime;
+    private int burstTime;
+    private int priority;
+    private int deadline;
+    private int previousArrivalTime;
+
+    // Parse state for the line being read
+    private final long[] fields = new long[5];
+    private int fieldCount;
+    private int numericFields;
+    private boolean headerChecked;
+
+    public CsvTraceReader(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileSize = channel.size();
+    }
+
+    @Override
+    public boolean next() {
+        while (position < fileSize) {
+            lineNumber++;
+            int status = parseLine();
+            if (status == LINE_BLANK) {
+                continue;
+            }
+            boolean firstLine = !headerChecked;
+            headerChecked = true;
+            if (status == LINE_INVALID) {
+                if (firstLine && numericFields == 0) {
+                    continue;
+                }
+                throw new IllegalArgumentException("Malformed trace line " + lineNumber);
+            }
+            if (fieldCount < 3) {
+                throw new IllegalArgumentException("Trace line " + lineNumber + " needs at least ID, arrival and burst");
+            }
+
+            id = (int) fields[0];
+            arrivalTime = (int) fields[1];
+            burstTime = (int) fields[2];
+            priority = fieldCount > 3 ? (int) fields[3] : 0;
+            deadline = fieldCount > 4 ? (int) fields[4] : Process.NO_DEADLINE;
+
+            if (burstTime <= 0) {
+                throw new IllegalArgumentException("Burst time must be positive on trace line " + lineNumber);
+            }
+            if (arrivalTime < previousArrivalTime) {
+                throw new IllegalArgumentException("Trace is not sorted by arrival time at line " + lineNumber);
+            }
+            previousArrivalTime = arrivalTime;
+            return true;
+        }
+        return false;
+    }
+
+    // Reads one line starting at position into fields; leaves position after the newline
+    private int parseLine() {
+        fieldCount = 0;
+        numericFields = 0;
+        long value = 0;
+        boolean digits = false;
+        boolean fieldValid = true;
+        boolean blank = true;
+        boolean valid = true;
+
+        while (position < fileSize) {
+            byte b = byteAt(position++);
+            if (b == '\n') {
+                break;
+            }
+            if (b == '\r' || b == ' ' || b == '\t') {
+                continue;
+            }
+            blank = false;
+            if (b == ',') {
+                if (digits && fieldValid) {
+                    numericFields++;
+                }
+                valid &= finishField(value, digits);
+                value = 0;
+                digits = false;
+                fieldValid = true;
+            } else if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                digits = true;
+                if (value > Integer.MAX_VALUE) {
+                    valid = false;
+                    fieldValid = false;
+                }
+            } else if ((b == 'P' || b == 'p') && fieldCount == 0 && !digits) {
+                // Table-style "P12" process id
+            } else {
+                valid = false;
+                fieldValid = false;
+            }
+        }
+
+        if (blank) {
+            return LINE_BLANK;
+        }
+        if (digits) {
+            if (fieldValid) {
+                numericFields++;
+            }
+            valid &= finishField(value, true);
+        }
+        return valid ? LINE_OK : LINE_INVALID;
+    }
+
+    private boolean finishField(long value, boolean digits) {
+        if (fieldCount >= fields.length) {
+            // Columns after Deadline, including the empty one left by a trailing comma
+            return true;
+        }
+        if (!digits) {
+            // Only the priority and deadline columns may be left empty
+            if (fieldCount >= 3) {
+                fields[fieldCount++] = 0;
+                return true;
+            }
+            return false;
+        }
+        fields[fieldCount++] = value;
+        return true;
+    }
+
+    private byte byteAt(long offset) {
+        if (offset >= windowEnd || offset < windowStart) {
+            remap(offset);
+        }
+        return window.get((int) (offset - windowStart));
+    }
+
+    private void remap(long offset) {
+        try {
+            long length = Math.min(WINDOW_SIZE, fileSize - offset);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            windowStart = offset;
+            windowEnd = offset + length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int id() {
+        return id;
+    }
+
+    @Override
+    public int arrivalTime() {
+        return arrivalTime;
+    }
+
+    @Override
+    public int burstTime() {
+        return burstTime;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public int deadline() {
+        return deadline;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
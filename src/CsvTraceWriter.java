@@ -0,0 +1,67 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Writes a ProcessSource as a CSV trace in the layout CsvTraceReader reads back:
+// a header line, then "id,arrival,burst,priority" per process with no trailing comma, plus a
+// ",deadline" column (0 for none) when deadlines are asked for.
+// Numbers are formatted straight into a byte buffer. The reader takes digits only, so a process
+// with a negative value is rejected with an IllegalArgumentException rather than written.
+public class CsvTraceWriter {
+    private static final String HEADER = "Process ID,Arrival Time,Burst Time,Priority";
+
+    // Returns the number of processes written
+    public static long write(ProcessSource source, Path path) throws IOException {
+        return write(source, path, false);
+    }
+
+    public static long write(ProcessSource source, Path path, boolean deadlines) throws IOException {
+        byte[] buffer = new byte[1 << 16];
+        int length = 0;
+        long count = 0;
+        try (OutputStream out = Files.newOutputStream(path)) {
+            out.write((HEADER + (deadlines ? ",Deadline\n" : "\n")).getBytes(StandardCharsets.US_ASCII));
+            while (source.next()) {
+                // Five numbers of at most 10 digits plus separators
+                if (length > buffer.length - 60) {
+                    out.write(buffer, 0, length);
+                    length = 0;
+                }
+                // The sign bit of the OR is set if any field is negative
+                int deadline = deadlines ? source.deadline() : 0;
+                if ((source.id() | source.arrivalTime() | source.burstTime() | source.priority() | deadline) < 0) {
+                    throw new IllegalArgumentException("Process " + source.id()
+                            + " has a negative field; CSV traces hold non-negative numbers only");
+                }
+                length = writeNumber(buffer, length, source.id(), ',');
+                length = writeNumber(buffer, length, source.arrivalTime(), ',');
+                length = writeNumber(buffer, length, source.burstTime(), ',');
+                if (deadlines) {
+                    length = writeNumber(buffer, length, source.priority(), ',');
+                    length = writeNumber(buffer, length, deadline, '\n');
+                } else {
+                    length = writeNumber(buffer, length, source.priority(), '\n');
+                }
+                count++;
+            }
+            out.write(buffer, 0, length);
+        }
+        return count;
+    }
+
+    // Writes a non-negative value and a separator; returns the new length
+    private static int writeNumber(byte[] buffer, int length, int value, char separator) {
+        int digits = 1;
+        for (int rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        buffer[length + digits] = (byte) separator;
+        return length + digits + 1;
+    }
+}
@@ -0,0 +1,103 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Finds where a workload with deadlines tips into overload. The same generated workload is run
+// at a series of offered loads (mean burst / mean inter-arrival time, so 1 keeps the CPU busy
+// exactly on average) and each policy's deadline-miss ratio and lateness is recorded per load.
+// Every load uses the spec's seed, so loads differ only in how closely the arrivals are packed.
+// As in MonteCarloRunner, one task per pool thread claims loads in turn and runs them on its
+// own ReplicaWorker.
+public class DeadlineSweep {
+    public static final double[] DEFAULT_LOADS = {0.5, 0.6, 0.7, 0.8, 0.9, 0.95, 1.0, 1.05, 1.1, 1.2, 1.35, 1.5};
+    public static final double DEFAULT_MISS_THRESHOLD = 0.05;
+
+    public static DeadlineSweepResult run(WorkloadGenerator spec, int processes, double[] loads, double missThreshold,
+            RunMonitor monitor) {
+        return run(spec, processes, loads, missThreshold, monitor, ForkJoinPool.commonPool());
+    }
+
+    public static DeadlineSweepResult run(WorkloadGenerator spec, int processes, double[] loads, double missThreshold,
+            RunMonitor monitor, ForkJoinPool pool) {
+        if (!spec.hasDeadlines()) {
+            throw new IllegalArgumentException("The workload needs deadlines; set a deadline slack");
+        }
+        if (processes <= 0) {
+            throw new IllegalArgumentException("Each load needs at least one process");
+        }
+        if (loads.length == 0) {
+            throw new IllegalArgumentException("At least one load is needed");
+        }
+        for (int l = 0; l < loads.length; l++) {
+            if (!(loads[l] > 0) || (l > 0 && loads[l] <= loads[l - 1])) {
+                throw new IllegalArgumentException("Loads must be positive and increasing");
+            }
+        }
+        if (!(missThreshold > 0 && missThreshold < 1)) {
+            throw new IllegalArgumentException("The miss threshold must be between 0 and 1");
+        }
+
+        Scheduler[] lineUp = lineUp();
+        String[] algorithms = new String[lineUp.length];
+        for (int a = 0; a < lineUp.length; a++) {
+            algorithms[a] = lineUp[a].getName();
+        }
+
+        double[][] missRatios = new double[algorithms.length][loads.length];
+        double[][] averageLateness = new double[algorithms.length][loads.length];
+        int[][] p99Lateness = new int[algorithms.length][loads.length];
+        int[][] maxLateness = new int[algorithms.length][loads.length];
+        AtomicInteger nextLoad = new AtomicInteger();
+        List<Callable<Void>> workers = new ArrayList<>();
+        int workerCount = Math.min(loads.length, Math.max(1, pool.getParallelism()));
+        for (int w = 0; w < workerCount; w++) {
+            workers.add(() -> {
+                ReplicaWorker worker = new ReplicaWorker(lineUp(), processes);
+                int l;
+                while ((l = nextLoad.getAndIncrement()) < loads.length) {
+                    worker.run(spec.withMeanInterarrival(spec.getMeanBurst() / loads[l]), monitor);
+                    for (int a = 0; a < algorithms.length; a++) {
+                        SchedulingResult result = worker.results[a];
+                        missRatios[a][l] = result.getDeadlineMissRatio();
+                        averageLateness[a][l] = result.getAverageLateness();
+                        p99Lateness[a][l] = result.getLatenessHistogram().getValueAtPercentile(99);
+                        maxLateness[a][l] = result.getLatenessHistogram().getMax();
+                    }
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(workers)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Deadline sweep interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
+            }
+            throw new IllegalStateException("Deadline sweep failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return new DeadlineSweepResult(algorithms, processes, loads.clone(), spec.getMeanBurst(), missThreshold,
+                missRatios, averageLateness, p99Lateness, maxLateness);
+    }
+
+    // EDF in both forms against policies that ignore deadlines
+    private static Scheduler[] lineUp() {
+        return new Scheduler[]{
+            Schedulers.fcfs(),
+            Schedulers.sjf(),
+            Schedulers.srtf(),
+            Schedulers.edf(),
+            Schedulers.preemptiveEdf()
+        };
+    }
+}
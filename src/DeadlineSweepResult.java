@@ -0,0 +1,87 @@
+// Per-algorithm deadline metrics at every offered load of a DeadlineSweep, and the overload
+// point: the load at which an algorithm's miss ratio reaches the sweep's threshold.
+public class DeadlineSweepResult {
+    private final String[] algorithms;
+    private final int processes;
+    private final double[] loads;
+    private final double meanBurst;
+    private final double missThreshold;
+    private final double[][] missRatios;
+    private final double[][] averageLateness;
+    private final int[][] p99Lateness;
+    private final int[][] maxLateness;
+
+    // Metric arrays are indexed [algorithm][load]
+    DeadlineSweepResult(String[] algorithms, int processes, double[] loads, double meanBurst, double missThreshold,
+            double[][] missRatios, double[][] averageLateness, int[][] p99Lateness, int[][] maxLateness) {
+        this.algorithms = algorithms;
+        this.processes = processes;
+        this.loads = loads;
+        this.meanBurst = meanBurst;
+        this.missThreshold = missThreshold;
+        this.missRatios = missRatios;
+        this.averageLateness = averageLateness;
+        this.p99Lateness = p99Lateness;
+        this.maxLateness = maxLateness;
+    }
+
+    public String[] getAlgorithms() {
+        return algorithms;
+    }
+
+    public int getProcesses() {
+        return processes;
+    }
+
+    public int getLoadCount() {
+        return loads.length;
+    }
+
+    public double getLoad(int load) {
+        return loads[load];
+    }
+
+    // Processes arriving per time unit at the given load
+    public double getArrivalRate(int load) {
+        return loads[load] / meanBurst;
+    }
+
+    public double getMissThreshold() {
+        return missThreshold;
+    }
+
+    public double getMissRatio(int algorithm, int load) {
+        return missRatios[algorithm][load];
+    }
+
+    // Mean signed lateness; negative while processes finish early on average
+    public double getAverageLateness(int algorithm, int load) {
+        return averageLateness[algorithm][load];
+    }
+
+    // Tail of the lateness distribution, early finishes counted as 0
+    public int getP99Lateness(int algorithm, int load) {
+        return p99Lateness[algorithm][load];
+    }
+
+    public int getMaxLateness(int algorithm, int load) {
+        return maxLateness[algorithm][load];
+    }
+
+    // Load at which the miss ratio first reaches the threshold, interpolated linearly between
+    // the sweep points on either side; the lightest load if it is reached there already, and
+    // NaN if it is never reached
+    public double getOverloadPoint(int algorithm) {
+        double[] ratios = missRatios[algorithm];
+        for (int l = 0; l < loads.length; l++) {
+            if (ratios[l] >= missThreshold) {
+                if (l == 0) {
+                    return loads[0];
+                }
+                double fraction = (missThreshold - ratios[l - 1]) / (ratios[l] - ratios[l - 1]);
+                return loads[l - 1] + fraction * (loads[l] - loads[l - 1]);
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import javax.swing.*;
+
+// Runs one engine job off the event dispatch thread. While it runs the given controls are
+// disabled, the Cancel button is enabled and the status bar shows the monitor's progress.
+// stop() asks a monitored engine to quit at its next checkpoint; an unmonitored job is
+// abandoned and its result discarded. onSuccess and onFailure run on the event dispatch thread.
+public class EngineWorker<T> extends SwingWorker<T, Void> {
+    private final String description;
+    private final Callable<T> job;
+    private final RunMonitor monitor;
+    private final long totalWork;
+    private final JLabel statusBar;
+    private final JButton btnCancel;
+    private final JComponent[] controls;
+    private final Consumer<T> onSuccess;
+    private final Consumer<Throwable> onFailure;
+    private final Timer progressTimer;
+    private final long startTime = System.nanoTime();
+
+    // totalWork is the workload's total burst time, or 0 when unknown (e.g. a streamed trace)
+    public EngineWorker(String description, Callable<T> job, RunMonitor monitor, long totalWork, JLabel statusBar,
+            JButton btnCancel, JComponent[] controls, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        this.description = description;
+        this.job = job;
+        this.monitor = monitor;
+        this.totalWork = totalWork;
+        this.statusBar = statusBar;
+        this.btnCancel = btnCancel;
+        this.controls = controls;
+        this.onSuccess = onSuccess;
+        this.onFailure = onFailure;
+        this.progressTimer = new Timer(200, e -> statusBar.setText(progressText()));
+    }
+
+    public void start() {
+        for (JComponent control : controls) {
+            control.setEnabled(false);
+        }
+        btnCancel.setEnabled(true);
+        statusBar.setText(progressText());
+        progressTimer.start();
+        execute();
+    }
+
+    public void stop() {
+        if (monitor != null) {
+            monitor.cancel();
+        }
+        cancel(true);
+    }
+
+    private String progressText() {
+        long seconds = (System.nanoTime() - startTime) / 1_000_000_000L;
+        if (monitor == null) {
+            return description + ": running (" + seconds + " s)";
+        }
+        if (totalWork > 0) {
+            return String.format("%s: %.1f%% of CPU time simulated, %,d processes finished (%d s)", description,
+                    100.0 * monitor.getWorkDone() / totalWork, monitor.getCompleted(), seconds);
+        }
+        return String.format("%s: %,d processes finished (%d s)", description, monitor.getCompleted(), seconds);
+    }
+
+    @Override
+    protected T doInBackground() throws Exception {
+        return job.call();
+    }
+
+    @Override
+    protected void done() {
+        progressTimer.stop();
+        for (JComponent control : controls) {
+            control.setEnabled(true);
+        }
+        btnCancel.setEnabled(false);
+        if (isCancelled()) {
+            statusBar.setText(description + " cancelled");
+            return;
+        }
+        try {
+            onSuccess.accept(get());
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof CancellationException) {
+                statusBar.setText(description + " cancelled");
+            } else {
+                statusBar.setText(description + " failed");
+                onFailure.accept(ex.getCause());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import javax.swing.*;
+
+// Gantt chart of a Timeline. Only the visible time window is painted: the first visible
+// segment is found by binary search, and when several segments fall inside one pixel column
+// the column is painted once in the colour of the first of them and the rest are skipped by
+// another binary search. Round Robin rounds segments are expanded into their slices for the
+// visible window only. A repaint therefore costs O(width * log segments), whatever the
+// length of the run. Mouse wheel zooms around the cursor, dragging pans, double-click fits.
+public class GanttChart extends JComponent {
+    private static final double MAX_PIXELS_PER_UNIT = 40;
+    private static final int AXIS_HEIGHT = 18;
+
+    private Timeline timeline;
+    private double viewStart;
+    private double unitsPerPixel = 1;
+    private int dragX;
+
+    public GanttChart() {
+        setOpaque(true);
+        setBackground(Color.WHITE);
+        setToolTipText("");
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+                if (e.getClickCount() == 2) {
+                    fit();
+                }
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                viewStart -= (e.getX() - dragX) * unitsPerPixel;
+                dragX = e.getX();
+                clampView();
+                repaint();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                double anchor = viewStart + e.getX() * unitsPerPixel;
+                unitsPerPixel *= Math.pow(1.25, e.getPreciseWheelRotation());
+                clampView();
+                viewStart = anchor - e.getX() * unitsPerPixel;
+                clampView();
+                repaint();
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    // Shows a timeline, or clears the chart when it is null
+    public void setTimeline(Timeline timeline) {
+        this.timeline = timeline;
+        fit();
+    }
+
+    public void fit() {
+        viewStart = 0;
+        unitsPerPixel = maxUnitsPerPixel();
+        repaint();
+    }
+
+    private double maxUnitsPerPixel() {
+        int endTime = timeline == null ? 0 : timeline.getEndTime();
+        return Math.max(endTime, 1) / (double) Math.max(getWidth(), 1);
+    }
+
+    private void clampView() {
+        unitsPerPixel = Math.max(1 / MAX_PIXELS_PER_UNIT, Math.min(unitsPerPixel, maxUnitsPerPixel()));
+        int endTime = timeline == null ? 0 : timeline.getEndTime();
+        viewStart = Math.max(0, Math.min(viewStart, endTime - getWidth() * unitsPerPixel));
+    }
+
+    // Distinct, stable colour per process id
+    private static Color processColor(int processId) {
+        return Color.getHSBColor((processId * 0.618034f) % 1f, 0.45f, 0.95f);
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent e) {
+        if (timeline == null) {
+            return null;
+        }
+        long time = (long) Math.floor(viewStart + e.getX() * unitsPerPixel);
+        int segment = timeline.firstEndingAfter(time);
+        if (segment == timeline.size() || timeline.getStart(segment) > time) {
+            return "Idle at t=" + time;
+        }
+        if (timeline.isRounds(segment)) {
+            int sliceStart = timeline.getSliceStart(segment, time);
+            return "P" + timeline.getProcessIdAt(segment, time) + ": " + sliceStart + " - "
+                    + (sliceStart + timeline.getRoundQuantum(segment)) + " (RR rounds " + timeline.getStart(segment)
+                    + " - " + timeline.getEnd(segment) + ")";
+        }
+        return "P" + timeline.getProcessId(segment) + ": " + timeline.getStart(segment) + " - " + timeline.getEnd(segment);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int barHeight = getHeight() - AXIS_HEIGHT;
+        g.setColor(getBackground());
+        g.fillRect(0, 0, width, getHeight());
+        if (timeline == null || timeline.size() == 0) {
+            g.setColor(Color.GRAY);
+            g.drawString("No timeline recorded", 10, barHeight / 2 + 5);
+            return;
+        }
+
+        FontMetrics metrics = g.getFontMetrics();
+        double viewEnd = viewStart + width * unitsPerPixel;
+        int segment = timeline.firstEndingAfter((long) Math.floor(viewStart));
+        while (segment < timeline.size() && timeline.getStart(segment) < viewEnd) {
+            double x0 = (timeline.getStart(segment) - viewStart) / unitsPerPixel;
+            double x1 = (timeline.getEnd(segment) - viewStart) / unitsPerPixel;
+
+            if (timeline.isRounds(segment)) {
+                paintRounds(g, segment, width, barHeight, metrics);
+                segment++;
+            } else if (x1 - x0 >= 1) {
+                paintSlice(g, timeline.getProcessId(segment), x0, x1, width, barHeight, metrics);
+                segment++;
+            } else {
+                // Sub-pixel slices: paint the column once and skip whatever else ends inside it
+                int column = (int) Math.floor(x0);
+                g.setColor(processColor(timeline.getProcessId(segment)));
+                g.fillRect(column, 0, 1, barHeight);
+                long columnEnd = (long) Math.floor(viewStart + (column + 1) * unitsPerPixel);
+                segment = Math.max(segment + 1, timeline.firstEndingAfter(columnEnd));
+            }
+        }
+
+        paintAxis(g, width, barHeight, metrics);
+    }
+
+    private static void paintSlice(Graphics g, int processId, double x0, double x1, int width, int barHeight,
+            FontMetrics metrics) {
+        int left = (int) Math.max(0, Math.floor(x0));
+        int right = (int) Math.min(width, Math.ceil(x1));
+        g.setColor(processColor(processId));
+        g.fillRect(left, 0, right - left, barHeight);
+        g.setColor(Color.DARK_GRAY);
+        g.drawLine(left, 0, left, barHeight - 1);
+        String label = "P" + processId;
+        if (right - left > metrics.stringWidth(label) + 4) {
+            g.drawString(label, left + 3, barHeight / 2 + metrics.getAscent() / 2);
+        }
+    }
+
+    // Expands the visible part of a rounds segment: slice by slice when a quantum is at least a
+    // pixel wide, otherwise one column at a time in the colour of the slice at its left edge
+    private void paintRounds(Graphics g, int segment, int width, int barHeight, FontMetrics metrics) {
+        int start = timeline.getStart(segment);
+        int end = timeline.getEnd(segment);
+        int quantum = timeline.getRoundQuantum(segment);
+        long from = Math.max(start, (long) Math.floor(viewStart));
+        double viewEnd = viewStart + width * unitsPerPixel;
+        if (quantum / unitsPerPixel >= 1) {
+            for (long sliceStart = timeline.getSliceStart(segment, from); sliceStart < Math.min(end, viewEnd); sliceStart += quantum) {
+                paintSlice(g, timeline.getProcessIdAt(segment, sliceStart), (sliceStart - viewStart) / unitsPerPixel,
+                        (sliceStart + quantum - viewStart) / unitsPerPixel, width, barHeight, metrics);
+            }
+            return;
+        }
+        int first = (int) Math.max(0, Math.floor((start - viewStart) / unitsPerPixel));
+        int last = (int) Math.min(width, Math.ceil((end - viewStart) / unitsPerPixel));
+        for (int column = first; column < last; column++) {
+            long time = Math.max(start, Math.min(end - 1, (long) Math.floor(viewStart + column * unitsPerPixel)));
+            g.setColor(processColor(timeline.getProcessIdAt(segment, time)));
+            g.fillRect(column, 0, 1, barHeight);
+        }
+    }
+
+    private void paintAxis(Graphics g, int width, int top, FontMetrics metrics) {
+        // Tick step of 1, 2 or 5 times a power of ten, at least 80 pixels apart
+        double minStep = 80 * unitsPerPixel;
+        long step = 1;
+        while (step < minStep) {
+            if (step * 2 >= minStep) {
+                step *= 2;
+            } else if (step * 5 >= minStep) {
+                step *= 5;
+            } else {
+                step *= 10;
+            }
+        }
+
+        g.setColor(Color.BLACK);
+        g.drawLine(0, top, width, top);
+        for (long tick = (long) Math.ceil(viewStart / step) * step; tick <= viewStart + width * unitsPerPixel; tick += step) {
+            int x = (int) Math.round((tick - viewStart) / unitsPerPixel);
+            g.drawLine(x, top, x, top + 4);
+            g.drawString(String.valueOf(tick), x + 2, top + metrics.getAscent() + 2);
+        }
+    }
+}
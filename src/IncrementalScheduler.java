@@ -0,0 +1,331 @@
+import java.util.Arrays;
+
+// Keeps a non-preemptive (FCFS, SJF or Priority) schedule up to date while rows are inserted
+// into or removed from an input table, without rerunning the whole workload.
+//
+// The checkpoint is the previous run's busy periods. A busy period starts when the CPU is idle
+// and the next process arrives, so at its start the ready queue is empty and the schedule from
+// there on depends only on later arrivals. An edit is replayed from the last period that starts
+// before the edited process; as soon as the replay reaches a period boundary that the previous
+// run also had, the rest of the previous schedule is reused unchanged. Only the busy periods
+// the edit actually disturbs are recomputed.
+//
+// Results are identical to a full run of fcfs/sjf/priorityScheduling on the edited table:
+// processes are ordered by arrival time and then by input row, like the engine's stable sort.
+// Deadlines don't affect the order; they are carried along for the lateness statistics.
+public class IncrementalScheduler {
+    public static final int ORDER_ARRIVAL = 0;
+    public static final int ORDER_BURST = 1;
+    public static final int ORDER_PRIORITY = 2;
+
+    private static final String[] ORDER_NAMES = {"FCFS", "SJF", "Priority"};
+
+    private final int order;
+
+    // Workload sorted by (arrival time, input row)
+    private int[] ids = new int[16];
+    private int[] arrivalTimes = new int[16];
+    private int[] burstTimes = new int[16];
+    private int[] priorities = new int[16];
+    private int[] deadlines = new int[16];
+    private int[] inputRows = new int[16];
+    private int size;
+
+    // Arrival time of each input row, in input order, to locate rows being removed
+    private int[] inputArrivalTimes = new int[16];
+
+    // Result rows in completion order. Busy period k completes exactly the processes at sorted
+    // positions [periodStarts[k], periodStarts[k + 1]), so its rows occupy the same index range.
+    private int[] rowIds = new int[16];
+    private int[] rowResponseTimes = new int[16];
+    private int[] rowCompletionTimes = new int[16];
+    private int[] rowArrivalTimes = new int[16];
+    private int[] rowDeadlines = new int[16];
+    private int[] periodStarts = new int[16];
+    private int periodCount;
+
+    private long totalBurstTime;
+    private int lastRecomputed;
+
+    // Scratch space reused by replays
+    private final ReadyHeap readyQueue = new ReadyHeap(16);
+    private int[] replayIds = new int[16];
+    private int[] replayResponseTimes = new int[16];
+    private int[] replayCompletionTimes = new int[16];
+    private int[] replayArrivalTimes = new int[16];
+    private int[] replayDeadlines = new int[16];
+    private int[] replayPeriods = new int[16];
+
+    public IncrementalScheduler(ProcessTable table, int order) {
+        this(table, order, null);
+    }
+
+    // The initial run is a full schedule; monitor (may be null) reports its progress and can
+    // cancel it, so large tables can be built off the event dispatch thread
+    public IncrementalScheduler(ProcessTable table, int order, RunMonitor monitor) {
+        this.order = order;
+        size = table.size();
+        int capacity = Math.max(size, 16);
+        ids = new int[capacity];
+        arrivalTimes = new int[capacity];
+        burstTimes = new int[capacity];
+        priorities = new int[capacity];
+        deadlines = new int[capacity];
+        inputRows = Arrays.copyOf(table.arrivalOrder(), capacity);
+        inputArrivalTimes = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            int row = inputRows[i];
+            ids[i] = table.getId(row);
+            arrivalTimes[i] = table.getArrivalTime(row);
+            burstTimes[i] = table.getBurstTime(row);
+            priorities[i] = table.getPriority(row);
+            deadlines[i] = table.getDeadline(row);
+            inputArrivalTimes[row] = arrivalTimes[i];
+            totalBurstTime += burstTimes[i];
+        }
+        replay(0, 0, 0, 0, monitor);
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Number of processes rescheduled by the last update
+    public int getLastRecomputedCount() {
+        return lastRecomputed;
+    }
+
+    // Mirrors inserting a row at inputRow of the input table
+    public void insertRow(int inputRow, int id, int arrivalTime, int burstTime, int priority) {
+        insertRow(inputRow, id, arrivalTime, burstTime, priority, Process.NO_DEADLINE);
+    }
+
+    public void insertRow(int inputRow, int id, int arrivalTime, int burstTime, int priority, int deadline) {
+        if (inputRow < 0 || inputRow > size) {
+            throw new IndexOutOfBoundsException("Input row " + inputRow + " out of range");
+        }
+        int position = insertWorkloadRow(inputRow, id, arrivalTime, burstTime, priority, deadline);
+        int period = lastPeriodBefore(position);
+        replay(period, periodCount == 0 ? 0 : periodStarts[period], position + 1, 1, null);
+    }
+
+    // Mirrors editing the row at inputRow of the input table
+    public void updateRow(int inputRow, int id, int arrivalTime, int burstTime, int priority, int deadline) {
+        removeRow(inputRow);
+        int removed = lastRecomputed;
+        insertRow(inputRow, id, arrivalTime, burstTime, priority, deadline);
+        lastRecomputed += removed;
+    }
+
+    // Mirrors removing the row at inputRow of the input table
+    public void removeRow(int inputRow) {
+        if (inputRow < 0 || inputRow >= size) {
+            throw new IndexOutOfBoundsException("Input row " + inputRow + " out of range");
+        }
+        int position = removeWorkloadRow(inputRow);
+        int period = lastPeriodBefore(position);
+        replay(period, periodStarts[period], position, -1, null);
+    }
+
+    // The rows and the timeline of the current schedule. Nothing is preempted, so each row ran
+    // in one piece from arrival + response time to completion, and the rows, which are kept in
+    // completion order through every splice, give the timeline as well.
+    public SchedulingResult getResult() {
+        Timeline timeline = new Timeline(size);
+        SchedulingResult result = new SchedulingResult(ORDER_NAMES[order], size, timeline);
+        for (int i = 0; i < size; i++) {
+            int turnaroundTime = rowCompletionTimes[i] - rowArrivalTimes[i];
+            result.add(rowIds[i], rowResponseTimes[i], turnaroundTime, rowCompletionTimes[i], rowResponseTimes[i]);
+            timeline.add(rowIds[i], rowArrivalTimes[i] + rowResponseTimes[i], rowCompletionTimes[i]);
+            if (rowDeadlines[i] != Process.NO_DEADLINE) {
+                result.recordLateness(turnaroundTime - rowDeadlines[i]);
+            }
+        }
+        result.complete(size == 0 ? 0 : rowCompletionTimes[size - 1], totalBurstTime);
+        return result;
+    }
+
+    // Index of the last busy period starting before position (period 0 when none does)
+    private int lastPeriodBefore(int position) {
+        int low = 0;
+        int high = periodCount - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (periodStarts[mid] < position) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    // Replays busy periods from period firstPeriod (which starts at sorted position start) until
+    // a period boundary at or beyond resyncFrom matches a boundary of the previous run, where
+    // previous positions are shifted by delta (+1 after an insert, -1 after a removal).
+    private void replay(int firstPeriod, int start, int resyncFrom, int delta, RunMonitor monitor) {
+        int oldSize = size - delta;
+        int oldPeriodCount = periodCount;
+        int replayed = 0;
+        int replayPeriodCount = 0;
+        int resumePeriod = -1;
+
+        readyQueue.clear();
+        int cursor = start;
+        int currentTime = 0;
+        long simulated = 0;
+
+        while (cursor < size || !readyQueue.isEmpty()) {
+            if (monitor != null && (replayed & (SchedulingAlgorithms.CHECKPOINT_INTERVAL - 1)) == 0) {
+                monitor.checkpoint(simulated, replayed);
+            }
+            if (readyQueue.isEmpty() && (cursor == start || arrivalTimes[cursor] >= currentTime)) {
+                // Idle CPU: a new busy period starts here unless the previous run had it too
+                if (cursor >= resyncFrom && periodCount > 0) {
+                    resumePeriod = findPeriod(cursor - delta, firstPeriod, oldPeriodCount);
+                    if (resumePeriod >= 0) {
+                        break;
+                    }
+                }
+                replayPeriods = ensureCapacity(replayPeriods, replayPeriodCount + 1);
+                replayPeriods[replayPeriodCount++] = cursor;
+                currentTime = arrivalTimes[cursor];
+            }
+
+            // Add arrived processes to ready queue
+            while (cursor < size && arrivalTimes[cursor] <= currentTime) {
+                int key = order == ORDER_BURST ? burstTimes[cursor] : order == ORDER_PRIORITY ? priorities[cursor] : 0;
+                readyQueue.push(ReadyHeap.key(key, cursor), cursor);
+                cursor++;
+            }
+
+            int selected = readyQueue.pop();
+            replayIds = ensureCapacity(replayIds, replayed + 1);
+            replayResponseTimes = ensureCapacity(replayResponseTimes, replayed + 1);
+            replayCompletionTimes = ensureCapacity(replayCompletionTimes, replayed + 1);
+            replayArrivalTimes = ensureCapacity(replayArrivalTimes, replayed + 1);
+            replayDeadlines = ensureCapacity(replayDeadlines, replayed + 1);
+            replayIds[replayed] = ids[selected];
+            replayResponseTimes[replayed] = currentTime - arrivalTimes[selected];
+            currentTime += burstTimes[selected];
+            simulated += burstTimes[selected];
+            replayCompletionTimes[replayed] = currentTime;
+            replayArrivalTimes[replayed] = arrivalTimes[selected];
+            replayDeadlines[replayed] = deadlines[selected];
+            replayed++;
+        }
+
+        // Splice: rows before start are unchanged, then the replay, then the reused tail
+        int tailFrom = resumePeriod >= 0 ? periodStarts[resumePeriod] : oldSize;
+        int tailLength = oldSize - tailFrom;
+        rowIds = splice(rowIds, start, replayIds, replayed, tailFrom, tailLength);
+        rowResponseTimes = splice(rowResponseTimes, start, replayResponseTimes, replayed, tailFrom, tailLength);
+        rowCompletionTimes = splice(rowCompletionTimes, start, replayCompletionTimes, replayed, tailFrom, tailLength);
+        rowArrivalTimes = splice(rowArrivalTimes, start, replayArrivalTimes, replayed, tailFrom, tailLength);
+        rowDeadlines = splice(rowDeadlines, start, replayDeadlines, replayed, tailFrom, tailLength);
+
+        int tailPeriods = resumePeriod >= 0 ? oldPeriodCount - resumePeriod : 0;
+        int tailPeriodFrom = resumePeriod >= 0 ? resumePeriod : oldPeriodCount;
+        periodStarts = splice(periodStarts, firstPeriod, replayPeriods, replayPeriodCount, tailPeriodFrom, tailPeriods);
+        periodCount = firstPeriod + replayPeriodCount + tailPeriods;
+        for (int k = firstPeriod + replayPeriodCount; k < periodCount; k++) {
+            periodStarts[k] += delta;
+        }
+        lastRecomputed = replayed;
+    }
+
+    // Period index in [from, to) of the previous run starting at position, or -1
+    private int findPeriod(int position, int from, int to) {
+        int index = Arrays.binarySearch(periodStarts, from, to, position);
+        return index >= 0 ? index : -1;
+    }
+
+    // Writes replay[0, length) at offset and moves target[tailFrom, tailFrom + tailLength) after it
+    private static int[] splice(int[] target, int offset, int[] replay, int length, int tailFrom, int tailLength) {
+        int[] result = ensureCapacity(target, offset + length + tailLength);
+        if (tailLength > 0) {
+            System.arraycopy(target, tailFrom, result, offset + length, tailLength);
+        }
+        System.arraycopy(replay, 0, result, offset, length);
+        return result;
+    }
+
+    private static int[] ensureCapacity(int[] array, int capacity) {
+        if (capacity <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+
+    // Inserts into the sorted workload and returns the new process's position
+    private int insertWorkloadRow(int inputRow, int id, int arrivalTime, int burstTime, int priority, int deadline) {
+        for (int i = 0; i < size; i++) {
+            if (inputRows[i] >= inputRow) {
+                inputRows[i]++;
+            }
+        }
+        inputArrivalTimes = ensureCapacity(inputArrivalTimes, size + 1);
+        System.arraycopy(inputArrivalTimes, inputRow, inputArrivalTimes, inputRow + 1, size - inputRow);
+        inputArrivalTimes[inputRow] = arrivalTime;
+
+        int position = sortedPosition(arrivalTime, inputRow);
+        ids = insertAt(ids, position, id);
+        arrivalTimes = insertAt(arrivalTimes, position, arrivalTime);
+        burstTimes = insertAt(burstTimes, position, burstTime);
+        priorities = insertAt(priorities, position, priority);
+        deadlines = insertAt(deadlines, position, deadline);
+        inputRows = insertAt(inputRows, position, inputRow);
+        size++;
+        totalBurstTime += burstTime;
+        return position;
+    }
+
+    // Removes from the sorted workload and returns the removed process's former position
+    private int removeWorkloadRow(int inputRow) {
+        int position = sortedPosition(inputArrivalTimes[inputRow], inputRow) - 1;
+        totalBurstTime -= burstTimes[position];
+        int tail = size - position - 1;
+        System.arraycopy(ids, position + 1, ids, position, tail);
+        System.arraycopy(arrivalTimes, position + 1, arrivalTimes, position, tail);
+        System.arraycopy(burstTimes, position + 1, burstTimes, position, tail);
+        System.arraycopy(priorities, position + 1, priorities, position, tail);
+        System.arraycopy(deadlines, position + 1, deadlines, position, tail);
+        System.arraycopy(inputRows, position + 1, inputRows, position, tail);
+        System.arraycopy(inputArrivalTimes, inputRow + 1, inputArrivalTimes, inputRow, size - inputRow - 1);
+        size--;
+        for (int i = 0; i < size; i++) {
+            if (inputRows[i] > inputRow) {
+                inputRows[i]--;
+            }
+        }
+        return position;
+    }
+
+    // First sorted position ordered after (arrivalTime, inputRow)
+    private int sortedPosition(int arrivalTime, int inputRow) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arrivalTimes[mid] < arrivalTime || (arrivalTimes[mid] == arrivalTime && inputRows[mid] <= inputRow)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] insertAt(int[] array, int position, int value) {
+        int[] result = ensureCapacity(array, size + 1);
+        System.arraycopy(result, position, result, position + 1, size - position);
+        result[position] = value;
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+import java.util.Arrays;
+
+// FIFO ring buffer of ints, used as the Round Robin ready queue so that enqueueing a
+// process index never boxes or allocates a list node.
+public class IntQueue {
+    private int[] elements;
+    private int head;
+    private int size;
+
+    public IntQueue(int capacity) {
+        elements = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public void offer(int value) {
+        if (size == elements.length) {
+            grow();
+        }
+        int tail = head + size;
+        if (tail >= elements.length) {
+            tail -= elements.length;
+        }
+        elements[tail] = value;
+        size++;
+    }
+
+    public int peek() {
+        return elements[head];
+    }
+
+    // Element at the given distance from the head, without removing it
+    public int get(int index) {
+        int position = head + index;
+        if (position >= elements.length) {
+            position -= elements.length;
+        }
+        return elements[position];
+    }
+
+    public int poll() {
+        int value = elements[head];
+        head++;
+        if (head == elements.length) {
+            head = 0;
+        }
+        size--;
+        return value;
+    }
+
+    private void grow() {
+        int[] grown = Arrays.copyOf(elements, elements.length * 2);
+        // Unwrap the part that sat before head so the queue is contiguous again
+        if (head > 0) {
+            System.arraycopy(elements, 0, grown, elements.length, head);
+        }
+        elements = grown;
+    }
+}
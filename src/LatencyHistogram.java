@@ -0,0 +1,102 @@
+import java.util.Arrays;
+
+// Constant-memory histogram of non-negative int values (waiting, response or turnaround times).
+// Values below 128 get a bucket each; above that every power of two is split into 64 equal
+// buckets, so a reported percentile is at most 1/64 (about 1.6%) above the true value and
+// never above the recorded maximum. record() only increments a counter, so the engine can
+// call it per completed process without allocating.
+public class LatencyHistogram {
+    public static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+    public static final String[] REPORTED_LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    private static final int LINEAR_BITS = 7;
+    private static final int LINEAR_BUCKETS = 1 << LINEAR_BITS;
+    private static final int SUB_BUCKETS = LINEAR_BUCKETS / 2;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (31 - LINEAR_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private int max;
+
+    public void record(int value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucket(value)]++;
+        count++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    // Adds every value recorded in other
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    // Approximate heap footprint: the bucket counts plus object headers and fields
+    public long sizeInBytes() {
+        return 64 + (long) Long.BYTES * BUCKET_COUNT;
+    }
+
+    // Smallest bucket bound that at least percentile% of the values are at or below; 0 when empty
+    public int getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+        return max;
+    }
+
+    // The REPORTED_PERCENTILES followed by the maximum
+    public int[] getSummary() {
+        int[] summary = new int[REPORTED_PERCENTILES.length + 1];
+        for (int i = 0; i < REPORTED_PERCENTILES.length; i++) {
+            summary[i] = getValueAtPercentile(REPORTED_PERCENTILES[i]);
+        }
+        summary[REPORTED_PERCENTILES.length] = max;
+        return summary;
+    }
+
+    private static int bucket(int value) {
+        if (value < LINEAR_BUCKETS) {
+            return value;
+        }
+        int shift = 31 - Integer.numberOfLeadingZeros(value) - (LINEAR_BITS - 1);
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static int upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long top = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return (int) Math.min(Integer.MAX_VALUE, ((top + 1) << shift) - 1);
+    }
+}
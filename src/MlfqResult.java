@@ -0,0 +1,29 @@
+// Result of a multilevel feedback queue run plus its starvation metrics: the longest single
+// wait a process had in each level's queue, and how many priority boosts happened.
+public class MlfqResult {
+    private final SchedulingResult result;
+    private final int[] maxWaitTimes;
+    private final int boostCount;
+
+    public MlfqResult(SchedulingResult result, int[] maxWaitTimes, int boostCount) {
+        this.result = result;
+        this.maxWaitTimes = maxWaitTimes;
+        this.boostCount = boostCount;
+    }
+
+    public SchedulingResult getResult() {
+        return result;
+    }
+
+    public int getLevelCount() {
+        return maxWaitTimes.length;
+    }
+
+    public int getMaxWaitTime(int level) {
+        return maxWaitTimes[level];
+    }
+
+    public int getBoostCount() {
+        return boostCount;
+    }
+}
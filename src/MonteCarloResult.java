@@ -0,0 +1,88 @@
+// Per-algorithm means and 95% confidence intervals of the output panel's metrics over the
+// replicas of a MonteCarloRunner run. The interval is mean +/- getHalfWidth (Student's t).
+public class MonteCarloResult {
+    public static final int AVG_TURNAROUND = 0;
+    public static final int AVG_WAITING = 1;
+    public static final int THROUGHPUT = 2;
+    public static final int TOTAL_BURST = 3;
+    public static final int CPU_UTILIZATION = 4;
+    public static final int P99_WAITING = 5;
+    // 0 for workloads generated without deadlines
+    public static final int DEADLINE_MISS_RATIO = 6;
+    public static final String[] METRICS = {"Avg. Turnaround", "Avg. Waiting", "Throughput", "Total CPU Burst", "CPU Utilization (%)", "p99 Waiting",
+        "Deadline Misses (%)"};
+
+    // Two-sided 95% critical values of Student's t for 1..30 degrees of freedom
+    private static final double[] T_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_95 = 1.959964;
+
+    private final String[] algorithms;
+    private final int replicas;
+    private final int processes;
+    private final double[][] means;
+    private final double[][] standardDeviations;
+
+    // samples[algorithm][metric][replica]
+    MonteCarloResult(String[] algorithms, int processes, double[][][] samples) {
+        this.algorithms = algorithms;
+        this.processes = processes;
+        this.replicas = samples[0][0].length;
+        this.means = new double[algorithms.length][METRICS.length];
+        this.standardDeviations = new double[algorithms.length][METRICS.length];
+        for (int a = 0; a < algorithms.length; a++) {
+            for (int m = 0; m < METRICS.length; m++) {
+                // Two passes over the replicas in order, so the figures do not depend on threading
+                double[] values = samples[a][m];
+                double sum = 0;
+                for (double value : values) {
+                    sum += value;
+                }
+                double mean = sum / replicas;
+                double squares = 0;
+                for (double value : values) {
+                    squares += (value - mean) * (value - mean);
+                }
+                means[a][m] = mean;
+                standardDeviations[a][m] = Math.sqrt(squares / (replicas - 1));
+            }
+        }
+    }
+
+    public String[] getAlgorithms() {
+        return algorithms;
+    }
+
+    public int getReplicas() {
+        return replicas;
+    }
+
+    public int getProcesses() {
+        return processes;
+    }
+
+    public double getMean(int algorithm, int metric) {
+        return means[algorithm][metric];
+    }
+
+    public double getStandardDeviation(int algorithm, int metric) {
+        return standardDeviations[algorithm][metric];
+    }
+
+    public double getHalfWidth(int algorithm, int metric) {
+        return criticalValue(replicas - 1) * standardDeviations[algorithm][metric] / Math.sqrt(replicas);
+    }
+
+    // Table value up to 30 degrees of freedom, then the Cornish-Fisher expansion around z
+    private static double criticalValue(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[degreesOfFreedom - 1];
+        }
+        double z = Z_95;
+        double df = degreesOfFreedom;
+        return z + (z * z * z + z) / (4 * df) + (5 * Math.pow(z, 5) + 16 * z * z * z + 3 * z) / (96 * df * df);
+    }
+}
@@ -0,0 +1,102 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Replicates the Compare All line-up (FCFS, SJF, Priority, SRTF, preemptive Priority, MLFQ, CFS,
+// EDF, preemptive EDF and Round Robin once per quantum) over many random workloads drawn from one
+// WorkloadGenerator configuration. Replica k uses the k-th seed drawn from the run's seed, so
+// results do not depend on the thread count. One task per pool thread claims replicas in turn and
+// runs them on its own ReplicaWorker; the monitor sees every run's progress and can stop a
+// replica part way through.
+public class MonteCarloRunner {
+
+    public static MonteCarloResult run(WorkloadGenerator spec, long seed, int processes, int replicas,
+            int[] timeQuanta, RunMonitor monitor) {
+        return run(spec, seed, processes, replicas, timeQuanta, monitor, ForkJoinPool.commonPool());
+    }
+
+    public static MonteCarloResult run(WorkloadGenerator spec, long seed, int processes, int replicas,
+            int[] timeQuanta, RunMonitor monitor, ForkJoinPool pool) {
+        if (replicas < 2) {
+            throw new IllegalArgumentException("At least two replicas are needed for a confidence interval");
+        }
+        if (processes <= 0) {
+            throw new IllegalArgumentException("Each replica needs at least one process");
+        }
+
+        Scheduler[] lineUp = lineUp(timeQuanta);
+        String[] algorithms = new String[lineUp.length];
+        for (int a = 0; a < lineUp.length; a++) {
+            algorithms[a] = lineUp[a].getName();
+        }
+
+        long[] seeds = new long[replicas];
+        SplittableRandom seeder = new SplittableRandom(seed);
+        for (int k = 0; k < replicas; k++) {
+            seeds[k] = seeder.nextLong();
+        }
+
+        double[][][] samples = new double[algorithms.length][MonteCarloResult.METRICS.length][replicas];
+        AtomicInteger nextReplica = new AtomicInteger();
+        List<Callable<Void>> workers = new ArrayList<>();
+        int workerCount = Math.min(replicas, Math.max(1, pool.getParallelism()));
+        for (int w = 0; w < workerCount; w++) {
+            workers.add(() -> {
+                ReplicaWorker worker = new ReplicaWorker(lineUp(timeQuanta), processes);
+                int k;
+                while ((k = nextReplica.getAndIncrement()) < replicas) {
+                    worker.run(spec.withSeed(seeds[k]), monitor);
+                    for (int a = 0; a < algorithms.length; a++) {
+                        SchedulingResult result = worker.results[a];
+                        samples[a][MonteCarloResult.AVG_TURNAROUND][k] = result.getAverageTurnaroundTime();
+                        samples[a][MonteCarloResult.AVG_WAITING][k] = result.getAverageWaitingTime();
+                        samples[a][MonteCarloResult.THROUGHPUT][k] = result.getThroughput();
+                        samples[a][MonteCarloResult.TOTAL_BURST][k] = result.getTotalBurstTime();
+                        samples[a][MonteCarloResult.CPU_UTILIZATION][k] = result.getCpuUtilization();
+                        samples[a][MonteCarloResult.P99_WAITING][k] = result.getWaitingHistogram().getValueAtPercentile(99);
+                        samples[a][MonteCarloResult.DEADLINE_MISS_RATIO][k] = result.getDeadlineMissRatio() * 100;
+                    }
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future : pool.invokeAll(workers)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Monte Carlo run interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
+            }
+            throw new IllegalStateException("Monte Carlo replica failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return new MonteCarloResult(algorithms, processes, samples);
+    }
+
+    private static Scheduler[] lineUp(int[] timeQuanta) {
+        Scheduler[] lineUp = new Scheduler[9 + timeQuanta.length];
+        lineUp[0] = Schedulers.fcfs();
+        lineUp[1] = Schedulers.sjf();
+        lineUp[2] = Schedulers.priority();
+        lineUp[3] = Schedulers.srtf();
+        lineUp[4] = Schedulers.preemptivePriority();
+        lineUp[5] = Schedulers.mlfq(SchedulingAlgorithms.DEFAULT_MLFQ_QUANTA, SchedulingAlgorithms.DEFAULT_MLFQ_BOOST_INTERVAL);
+        lineUp[6] = Schedulers.cfs(SchedulingAlgorithms.DEFAULT_CFS_TARGET_LATENCY, SchedulingAlgorithms.DEFAULT_CFS_MIN_GRANULARITY);
+        lineUp[7] = Schedulers.edf();
+        lineUp[8] = Schedulers.preemptiveEdf();
+        for (int q = 0; q < timeQuanta.length; q++) {
+            lineUp[9 + q] = Schedulers.roundRobin(timeQuanta[q]);
+        }
+        return lineUp;
+    }
+}
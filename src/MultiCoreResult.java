@@ -0,0 +1,32 @@
+// Result of a multi-core run: the usual per-process result (rows are grouped by core when the
+// cores were simulated independently) plus the busy time of every core.
+public class MultiCoreResult {
+    private final SchedulingResult result;
+    private final long[] busyTimes;
+
+    public MultiCoreResult(SchedulingResult result, long[] busyTimes) {
+        this.result = result;
+        this.busyTimes = busyTimes;
+    }
+
+    public SchedulingResult getResult() {
+        return result;
+    }
+
+    public int getCoreCount() {
+        return busyTimes.length;
+    }
+
+    public long getBusyTime(int core) {
+        return busyTimes[core];
+    }
+
+    // Share of the run's makespan during which the core was executing a process
+    public double getCoreUtilization(int core) {
+        return (busyTimes[core] / (double) result.getEndTime()) * 100;
+    }
+
+    public double getAverageUtilization() {
+        return result.getCpuUtilization() / busyTimes.length;
+    }
+}
@@ -0,0 +1,257 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Simulates N identical CPUs with non-preemptive FCFS, SJF or Priority ordering.
+// Load-balancing policies:
+//   GLOBAL_QUEUE  - one shared ready queue; any free core takes the best waiting process
+//   PER_CORE      - processes are placed round-robin on per-core queues at arrival and never move
+//   WORK_STEALING - per-core queues as above, but an idle core steals from the longest queue
+// PER_CORE cores never interact, so each core is simulated on its own host thread with the
+// single-CPU engine. The other two couple the cores and run as one event loop over arrivals
+// and core completions. Processes with a deadline report lateness as on a single CPU.
+public class MultiCoreSimulator {
+    public static final int GLOBAL_QUEUE = 0;
+    public static final int PER_CORE = 1;
+    public static final int WORK_STEALING = 2;
+
+    public static final int ORDER_ARRIVAL = 0;
+    public static final int ORDER_BURST = 1;
+    public static final int ORDER_PRIORITY = 2;
+
+    private static final String[] POLICY_NAMES = {"Global Queue", "Per-Core", "Work Stealing"};
+    private static final String[] ORDER_NAMES = {"FCFS", "SJF", "Priority"};
+
+    public static String policyName(int policy) {
+        return POLICY_NAMES[policy];
+    }
+
+    public static MultiCoreResult run(ProcessTable table, int cores, int policy, int order) {
+        return run(table, cores, policy, order, null, ForkJoinPool.commonPool());
+    }
+
+    public static MultiCoreResult run(ProcessTable table, int cores, int policy, int order, ForkJoinPool pool) {
+        return run(table, cores, policy, order, null, pool);
+    }
+
+    // monitor (may be null) reports progress and cancels the run at its next checkpoint
+    public static MultiCoreResult run(ProcessTable table, int cores, int policy, int order, RunMonitor monitor) {
+        return run(table, cores, policy, order, monitor, ForkJoinPool.commonPool());
+    }
+
+    public static MultiCoreResult run(ProcessTable table, int cores, int policy, int order, RunMonitor monitor,
+            ForkJoinPool pool) {
+        if (cores <= 0) {
+            throw new IllegalArgumentException("Core count must be positive.");
+        }
+        if (policy == PER_CORE) {
+            return runIndependentCores(table, cores, order, monitor, pool);
+        }
+        return runCoupledCores(table, cores, policy == WORK_STEALING, order, monitor);
+    }
+
+    // Runs 1, 2, 4, ... CPUs up to maxCores, and maxCores itself, on the same workload in
+    // parallel; the makespan ratio against the first entry gives the scaling curve, and the
+    // last entry is the maxCores run
+    public static MultiCoreResult[] scalingCurve(ProcessTable table, int maxCores, int policy, int order) {
+        return scalingCurve(table, maxCores, policy, order, null);
+    }
+
+    // Each point checkpoints into its own share of monitor (may be null)
+    public static MultiCoreResult[] scalingCurve(ProcessTable table, int maxCores, int policy, int order,
+            RunMonitor monitor) {
+        if (maxCores <= 0) {
+            throw new IllegalArgumentException("Core count must be positive.");
+        }
+        List<Callable<MultiCoreResult>> runs = new ArrayList<>();
+        for (int cores = 1; cores < maxCores; cores *= 2) {
+            int coreCount = cores;
+            runs.add(() -> run(table, coreCount, policy, order, RunMonitor.share(monitor), ForkJoinPool.commonPool()));
+        }
+        runs.add(() -> run(table, maxCores, policy, order, RunMonitor.share(monitor), ForkJoinPool.commonPool()));
+        return await(ForkJoinPool.commonPool().invokeAll(runs)).toArray(new MultiCoreResult[0]);
+    }
+
+    // Number of entries scalingCurve returns for maxCores
+    static int curvePoints(int maxCores) {
+        int points = 1;
+        for (int cores = 1; cores < maxCores; cores *= 2) {
+            points++;
+        }
+        return points;
+    }
+
+    private static String label(int cores, int policy, int order) {
+        return ORDER_NAMES[order] + " x" + cores + " (" + POLICY_NAMES[policy] + ")";
+    }
+
+    private static SchedulingResult runSingleCore(ProcessTable table, int order, RunMonitor monitor) {
+        switch (order) {
+            case ORDER_BURST: return SchedulingAlgorithms.sjf(table, null, monitor);
+            case ORDER_PRIORITY: return SchedulingAlgorithms.priorityScheduling(table, null, monitor);
+            default: return SchedulingAlgorithms.fcfs(table, null, monitor);
+        }
+    }
+
+    private static MultiCoreResult runIndependentCores(ProcessTable table, int cores, int order, RunMonitor monitor,
+            ForkJoinPool pool) {
+        // Round-robin placement in arrival order
+        int[] arrivalOrder = table.arrivalOrder();
+        ProcessTable[] coreTables = new ProcessTable[cores];
+        for (int c = 0; c < cores; c++) {
+            coreTables[c] = new ProcessTable(arrivalOrder.length / cores + 1);
+        }
+        for (int i = 0; i < arrivalOrder.length; i++) {
+            int row = arrivalOrder[i];
+            coreTables[i % cores].add(table.getId(row), table.getArrivalTime(row), table.getBurstTime(row), table.getPriority(row),
+                    table.getDeadline(row));
+        }
+
+        List<Callable<SchedulingResult>> runs = new ArrayList<>();
+        for (ProcessTable coreTable : coreTables) {
+            runs.add(() -> runSingleCore(coreTable, order, RunMonitor.share(monitor)));
+        }
+        List<SchedulingResult> coreResults = await(pool.invokeAll(runs));
+
+        SchedulingResult merged = new SchedulingResult(label(cores, PER_CORE, order), table.size());
+        long[] busyTimes = new long[cores];
+        long totalBurstTime = 0;
+        int endTime = 0;
+        for (int c = 0; c < cores; c++) {
+            SchedulingResult coreResult = coreResults.get(c);
+            for (int i = 0; i < coreResult.getRowCount(); i++) {
+                merged.add(coreResult.getProcessId(i), coreResult.getResponseTime(i), coreResult.getTurnaroundTime(i),
+                        coreResult.getCompletionTime(i), coreResult.getWaitingTime(i));
+            }
+            merged.addLateness(coreResult);
+            busyTimes[c] = coreResult.getTotalBurstTime();
+            totalBurstTime += busyTimes[c];
+            endTime = Math.max(endTime, coreResult.getEndTime());
+        }
+        merged.complete(endTime, totalBurstTime);
+        return new MultiCoreResult(merged, busyTimes);
+    }
+
+    private static MultiCoreResult runCoupledCores(ProcessTable table, int cores, boolean stealing, int order,
+            RunMonitor monitor) {
+        int policy = stealing ? WORK_STEALING : GLOBAL_QUEUE;
+        SchedulingResult result = new SchedulingResult(label(cores, policy, order), table.size());
+        ProcessSource source = table.source();
+        ProcessSlots slots = new ProcessSlots(0);
+
+        // The global policy uses queue 0 for every core
+        ReadyHeap[] queues = new ReadyHeap[stealing ? cores : 1];
+        for (int q = 0; q < queues.length; q++) {
+            queues[q] = new ReadyHeap(16);
+        }
+        int[] running = new int[cores];
+        Arrays.fill(running, -1);
+        long[] busyTimes = new long[cores];
+        ReadyHeap completions = new ReadyHeap(cores);
+        IntQueue idleCores = new IntQueue(cores);
+        for (int c = 0; c < cores; c++) {
+            idleCores.offer(c);
+        }
+
+        int currentTime = 0;
+        long totalBurstTime = 0;
+        int admitted = 0;
+        boolean pending = source.next();
+        int steps = 0;
+
+        while (pending || !completions.isEmpty()) {
+            if (monitor != null && (++steps & (SchedulingAlgorithms.CHECKPOINT_INTERVAL - 1)) == 0) {
+                monitor.checkpoint(totalBurstTime, result.size());
+            }
+            boolean arrivalFirst = pending
+                    && (completions.isEmpty() || source.arrivalTime() < (int) (completions.peekKey() >> 32));
+            if (!arrivalFirst) {
+                // Completion event: record the process and free its core
+                currentTime = (int) (completions.peekKey() >> 32);
+                int core = completions.pop();
+                int slot = running[core];
+                int turnaroundTime = currentTime - slots.arrivalTimes[slot];
+                result.add(slots.ids[slot], slots.responseTimes[slot], turnaroundTime, currentTime,
+                        slots.responseTimes[slot]);
+                if (slots.deadlines[slot] != Process.NO_DEADLINE) {
+                    result.recordLateness(turnaroundTime - slots.deadlines[slot]);
+                }
+                slots.release(slot);
+                running[core] = -1;
+                idleCores.offer(core);
+            } else {
+                // Arrival event: queue the process on the global or its round-robin core queue
+                currentTime = source.arrivalTime();
+                int slot = slots.admit(source);
+                int key = order == ORDER_BURST ? slots.burstTimes[slot]
+                        : order == ORDER_PRIORITY ? slots.priorities[slot] : 0;
+                queues[stealing ? admitted % cores : 0].push(ReadyHeap.key(key, admitted), slot);
+                admitted++;
+                pending = source.next();
+            }
+
+            // Apply every event at this instant before any core picks, as the single-CPU loops
+            // admit all arrivals up to the current time before selecting
+            if ((pending && source.arrivalTime() == currentTime)
+                    || (!completions.isEmpty() && (int) (completions.peekKey() >> 32) == currentTime)) {
+                continue;
+            }
+
+            // Hand work to idle cores, lowest freed first
+            int idle = idleCores.size();
+            for (int i = 0; i < idle; i++) {
+                int core = idleCores.poll();
+                ReadyHeap queue = stealing ? queues[core] : queues[0];
+                if (queue.isEmpty() && stealing) {
+                    queue = longestQueue(queues);
+                }
+                if (queue == null || queue.isEmpty()) {
+                    idleCores.offer(core);
+                    continue;
+                }
+                int slot = queue.pop();
+                running[core] = slot;
+                slots.responseTimes[slot] = currentTime - slots.arrivalTimes[slot];
+                busyTimes[core] += slots.burstTimes[slot];
+                totalBurstTime += slots.burstTimes[slot];
+                completions.push(ReadyHeap.key(currentTime + slots.burstTimes[slot], core), core);
+            }
+        }
+
+        result.complete(currentTime, totalBurstTime);
+        return new MultiCoreResult(result, busyTimes);
+    }
+
+    private static ReadyHeap longestQueue(ReadyHeap[] queues) {
+        ReadyHeap longest = null;
+        for (ReadyHeap queue : queues) {
+            if (!queue.isEmpty() && (longest == null || queue.size() > longest.size())) {
+                longest = queue;
+            }
+        }
+        return longest;
+    }
+
+    private static <T> List<T> await(List<Future<T>> futures) {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Multi-core run interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
+            }
+            throw new IllegalStateException("Multi-core run failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,15 @@
+import java.awt.Color;
+
+// Display colours for priority levels. Kept out of Process so the engine and the batch
+// runner never load AWT.
+public class PriorityColors {
+
+    public static Color of(int priority) {
+        switch (priority) {
+            case Process.HIGH_PRIORITY: return Color.RED; // High
+            case Process.MEDIUM_PRIORITY: return Color.ORANGE; // Medium
+            case Process.LOW_PRIORITY: return Color.GREEN; // Low
+            default: return Color.GRAY; // Default
+        }
+    }
+}
@@ -1,14 +1,14 @@
-import java.awt.Color;
-
 public class Process {
     public static final int HIGH_PRIORITY = 0;
     public static final int MEDIUM_PRIORITY = 1;
     public static final int LOW_PRIORITY = 2;
+    public static final int NO_DEADLINE = 0;
 
     public int id;
     public int arrivalTime;
     public int burstTime;
     public int priority; // 0: High, 1: Medium, 2: Low
+    public int deadline; // time after arrival by which it should finish, NO_DEADLINE if none
     
     // Metrics for scheduling
     public int completionTime;
@@ -20,23 +20,19 @@ public class Process {
     public int remainingTime;
     
     public Process(int id, int arrivalTime, int burstTime, int priority) {
+        this(id, arrivalTime, burstTime, priority, NO_DEADLINE);
+    }
+
+    public Process(int id, int arrivalTime, int burstTime, int priority, int deadline) {
         this.id = id;
         this.arrivalTime = arrivalTime;
         this.burstTime = burstTime;
         this.priority = priority;
+        this.deadline = deadline;
         this.startTime = -1;
         this.remainingTime = burstTime;
     }
 
-    public Color getPriorityColor() {
-        switch (priority) {
-            case HIGH_PRIORITY: return Color.RED; // High
-            case MEDIUM_PRIORITY: return Color.ORANGE; // Medium
-            case LOW_PRIORITY: return Color.GREEN; // Low
-            default: return Color.GRAY; // Default
-        }
-    }
-
     public void reset() {
         this.startTime = -1;
         this.responseTime = -1;
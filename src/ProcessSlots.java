@@ -0,0 +1,75 @@
+import java.util.Arrays;
+
+// Primitive store for the processes that have arrived but not yet finished.
+// Slots are recycled through a free list, so memory tracks the peak number of live processes
+// rather than the length of the workload.
+public class ProcessSlots {
+    int[] ids;
+    int[] arrivalTimes;
+    int[] burstTimes;
+    int[] priorities;
+    int[] deadlines;
+    int[] remainingTimes;
+    int[] responseTimes;
+    int[] waitingTimes;
+    int[] lastRunTimes;
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+
+    public ProcessSlots(int capacity) {
+        int initialCapacity = Math.max(capacity, 16);
+        ids = new int[initialCapacity];
+        arrivalTimes = new int[initialCapacity];
+        burstTimes = new int[initialCapacity];
+        priorities = new int[initialCapacity];
+        deadlines = new int[initialCapacity];
+        remainingTimes = new int[initialCapacity];
+        responseTimes = new int[initialCapacity];
+        waitingTimes = new int[initialCapacity];
+        lastRunTimes = new int[initialCapacity];
+        freeSlots = new int[initialCapacity];
+    }
+
+    // Copies the source's current process into a free slot and resets its run state
+    public int admit(ProcessSource source) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (used == ids.length) {
+                grow();
+            }
+            slot = used++;
+        }
+        ids[slot] = source.id();
+        arrivalTimes[slot] = source.arrivalTime();
+        burstTimes[slot] = source.burstTime();
+        priorities[slot] = source.priority();
+        deadlines[slot] = source.deadline();
+        remainingTimes[slot] = source.burstTime();
+        responseTimes[slot] = -1;
+        waitingTimes[slot] = 0;
+        lastRunTimes[slot] = source.arrivalTime();
+        return slot;
+    }
+
+    public void release(int slot) {
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+        responseTimes = Arrays.copyOf(responseTimes, capacity);
+        waitingTimes = Arrays.copyOf(waitingTimes, capacity);
+        lastRunTimes = Arrays.copyOf(lastRunTimes, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
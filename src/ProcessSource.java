@@ -0,0 +1,19 @@
+// Arrival-ordered stream of processes consumed by the scheduling engine.
+// next() advances to the following process and the accessors describe that current process,
+// so sources can be backed by a ProcessTable, a file, or a generator without creating objects.
+public interface ProcessSource {
+    boolean next();
+
+    int id();
+
+    int arrivalTime();
+
+    int burstTime();
+
+    int priority();
+
+    // Relative deadline of the current process; sources without deadlines keep this default
+    default int deadline() {
+        return Process.NO_DEADLINE;
+    }
+}
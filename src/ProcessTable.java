@@ -0,0 +1,282 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+// Structure-of-arrays workload store: one primitive column per Process input field.
+// Columns live either on the Java heap or in direct (off-heap) buffers; the algorithms read
+// them by row index and never create a Process object.
+// The deadline column is only allocated once a row with a deadline is added, so workloads
+// without deadlines cost nothing extra.
+public class ProcessTable {
+    private final boolean offHeap;
+    private IntBuffer ids;
+    private IntBuffer arrivalTimes;
+    private IntBuffer burstTimes;
+    private IntBuffer priorities;
+    private IntBuffer deadlines;
+    private int size;
+    // True while every row arrived no earlier than the one before it, so no sort is needed
+    private boolean arrivalSorted = true;
+
+    public ProcessTable(int capacity) {
+        this(capacity, false);
+    }
+
+    public ProcessTable(int capacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        int initialCapacity = Math.max(capacity, 1);
+        ids = allocate(initialCapacity);
+        arrivalTimes = allocate(initialCapacity);
+        burstTimes = allocate(initialCapacity);
+        priorities = allocate(initialCapacity);
+    }
+
+    // Wraps existing columns (e.g. memory-mapped from a saved test) without copying them.
+    // Adding rows later copies the columns into newly allocated buffers.
+    static ProcessTable wrap(IntBuffer ids, IntBuffer arrivalTimes, IntBuffer burstTimes, IntBuffer priorities,
+            int size, boolean arrivalSorted) {
+        return wrap(ids, arrivalTimes, burstTimes, priorities, null, size, arrivalSorted);
+    }
+
+    // deadlines may be null when no row has one
+    static ProcessTable wrap(IntBuffer ids, IntBuffer arrivalTimes, IntBuffer burstTimes, IntBuffer priorities,
+            IntBuffer deadlines, int size, boolean arrivalSorted) {
+        ProcessTable table = new ProcessTable(0, ids.isDirect());
+        table.ids = ids;
+        table.arrivalTimes = arrivalTimes;
+        table.burstTimes = burstTimes;
+        table.priorities = priorities;
+        table.deadlines = deadlines;
+        table.size = size;
+        table.arrivalSorted = arrivalSorted;
+        return table;
+    }
+
+    public static ProcessTable fromProcesses(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (Process p : processes) {
+            table.add(p.id, p.arrivalTime, p.burstTime, p.priority, p.deadline);
+        }
+        return table;
+    }
+
+    private IntBuffer allocate(int capacity) {
+        if (offHeap) {
+            return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        }
+        return IntBuffer.wrap(new int[capacity]);
+    }
+
+    private IntBuffer grow(IntBuffer column, int capacity) {
+        IntBuffer grown = allocate(capacity);
+        for (int i = 0; i < size; i++) {
+            grown.put(i, column.get(i));
+        }
+        return grown;
+    }
+
+    public void add(int id, int arrivalTime, int burstTime, int priority) {
+        add(id, arrivalTime, burstTime, priority, Process.NO_DEADLINE);
+    }
+
+    public void add(int id, int arrivalTime, int burstTime, int priority, int deadline) {
+        if (size == ids.capacity()) {
+            int capacity = size * 2;
+            ids = grow(ids, capacity);
+            arrivalTimes = grow(arrivalTimes, capacity);
+            burstTimes = grow(burstTimes, capacity);
+            priorities = grow(priorities, capacity);
+            if (deadlines != null) {
+                deadlines = grow(deadlines, capacity);
+            }
+        }
+        if (deadline != Process.NO_DEADLINE && deadlines == null) {
+            // Earlier rows read as NO_DEADLINE from the zero-filled column
+            deadlines = allocate(ids.capacity());
+        }
+        if (size > 0 && arrivalTime < arrivalTimes.get(size - 1)) {
+            arrivalSorted = false;
+        }
+        ids.put(size, id);
+        arrivalTimes.put(size, arrivalTime);
+        burstTimes.put(size, burstTime);
+        priorities.put(size, priority);
+        if (deadlines != null) {
+            deadlines.put(size, deadline);
+        }
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    public boolean isArrivalSorted() {
+        return arrivalSorted;
+    }
+
+    public int getId(int row) {
+        return ids.get(row);
+    }
+
+    public int getArrivalTime(int row) {
+        return arrivalTimes.get(row);
+    }
+
+    public int getBurstTime(int row) {
+        return burstTimes.get(row);
+    }
+
+    public int getPriority(int row) {
+        return priorities.get(row);
+    }
+
+    public int getDeadline(int row) {
+        return deadlines == null ? Process.NO_DEADLINE : deadlines.get(row);
+    }
+
+    // Whether the table stores a deadline column; rows without a deadline hold NO_DEADLINE
+    public boolean hasDeadlines() {
+        return deadlines != null;
+    }
+
+    // 64-bit hash of every column in row order, to recognise a workload that was run before.
+    // Row order is included because it breaks ties between equal arrivals. Deadlines are only
+    // mixed in for rows that have one, so tables without deadlines keep their old fingerprints.
+    public long fingerprint() {
+        long hash = size;
+        for (int i = 0; i < size; i++) {
+            hash = mix(hash, ((long) ids.get(i) << 32) | (arrivalTimes.get(i) & 0xFFFFFFFFL));
+            hash = mix(hash, ((long) burstTimes.get(i) << 32) | (priorities.get(i) & 0xFFFFFFFFL));
+            if (deadlines != null && deadlines.get(i) != Process.NO_DEADLINE) {
+                hash = mix(hash, ((long) i << 32) | (deadlines.get(i) & 0xFFFFFFFFL));
+            }
+        }
+        // Final avalanche so nearby workloads land far apart
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long mix(long hash, long value) {
+        return Long.rotateLeft(hash ^ (value * 0xC2B2AE3D27D4EB4FL), 31) * 0x9E3779B97F4A7C15L;
+    }
+
+    // Row indices sorted by arrival time; equal arrivals keep their input order.
+    // Each row is packed as (arrivalTime, row) into a long so the sort runs on primitives.
+    public int[] arrivalOrder() {
+        if (arrivalSorted) {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) arrivalTimes.get(i) << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    // Streams the rows in arrival order, for the engine's ProcessSource entry points
+    public ProcessSource source() {
+        if (!arrivalSorted) {
+            return source(arrivalOrder());
+        }
+        // Already in arrival order: stream the rows as stored, without an order array
+        return new ProcessSource() {
+            private int row = -1;
+
+            @Override
+            public boolean next() {
+                if (row + 1 >= size) {
+                    return false;
+                }
+                row++;
+                return true;
+            }
+
+            @Override
+            public int id() {
+                return ids.get(row);
+            }
+
+            @Override
+            public int arrivalTime() {
+                return arrivalTimes.get(row);
+            }
+
+            @Override
+            public int burstTime() {
+                return burstTimes.get(row);
+            }
+
+            @Override
+            public int priority() {
+                return priorities.get(row);
+            }
+
+            @Override
+            public int deadline() {
+                return getDeadline(row);
+            }
+        };
+    }
+
+    // Streams the rows in a precomputed arrival order. The table is only read, so concurrent
+    // runs can share one table and one order array.
+    public ProcessSource source(int[] order) {
+        return new ProcessSource() {
+            private int position = -1;
+            private int row;
+
+            @Override
+            public boolean next() {
+                if (position + 1 >= order.length) {
+                    return false;
+                }
+                row = order[++position];
+                return true;
+            }
+
+            @Override
+            public int id() {
+                return ids.get(row);
+            }
+
+            @Override
+            public int arrivalTime() {
+                return arrivalTimes.get(row);
+            }
+
+            @Override
+            public int burstTime() {
+                return burstTimes.get(row);
+            }
+
+            @Override
+            public int priority() {
+                return priorities.get(row);
+            }
+
+            @Override
+            public int deadline() {
+                return getDeadline(row);
+            }
+        };
+    }
+}
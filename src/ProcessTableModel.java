@@ -0,0 +1,172 @@
+import java.util.Arrays;
+import javax.swing.table.AbstractTableModel;
+
+// Input table model backed by one int array per column instead of boxed cells. The "P<id>"
+// label and boxed numbers are only created for the cells a JTable actually paints. Row edits
+// fire single-row events; clear() and setProcesses() fire one table-changed event.
+// The Deadline column is relative to arrival and shown blank for a process without one.
+public class ProcessTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Process ID", "Arrival Time", "Burst Time", "Priority", "Deadline"};
+
+    private int[] ids = new int[16];
+    private int[] arrivalTimes = new int[16];
+    private int[] burstTimes = new int[16];
+    private int[] priorities = new int[16];
+    private int[] deadlines = new int[16];
+    private int size;
+
+    @Override
+    public int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0: return "P" + ids[row];
+            case 1: return arrivalTimes[row];
+            case 2: return burstTimes[row];
+            case 3: return priorities[row];
+            default: return deadlines[row] == Process.NO_DEADLINE ? "" : deadlines[row];
+        }
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return true;
+    }
+
+    // Accepts the same values as the Add button; anything else leaves the cell unchanged
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        String text = value == null ? "" : value.toString().trim();
+        if (column == 0 && text.startsWith("P")) {
+            text = text.substring(1);
+        }
+        if (column == 4 && text.isEmpty()) {
+            text = String.valueOf(Process.NO_DEADLINE);
+        }
+        int number;
+        try {
+            number = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (number < 0 || (column == 2 && number == 0)) {
+            return;
+        }
+        switch (column) {
+            case 0: ids[row] = number; break;
+            case 1: arrivalTimes[row] = number; break;
+            case 2: burstTimes[row] = number; break;
+            case 3: priorities[row] = number; break;
+            default: deadlines[row] = number; break;
+        }
+        fireTableCellUpdated(row, column);
+    }
+
+    public void addRow(int id, int arrivalTime, int burstTime, int priority) {
+        addRow(id, arrivalTime, burstTime, priority, Process.NO_DEADLINE);
+    }
+
+    public void addRow(int id, int arrivalTime, int burstTime, int priority, int deadline) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+        ids[size] = id;
+        arrivalTimes[size] = arrivalTime;
+        burstTimes[size] = burstTime;
+        priorities[size] = priority;
+        deadlines[size] = deadline;
+        size++;
+        fireTableRowsInserted(size - 1, size - 1);
+    }
+
+    public void removeRow(int row) {
+        int tail = size - row - 1;
+        System.arraycopy(ids, row + 1, ids, row, tail);
+        System.arraycopy(arrivalTimes, row + 1, arrivalTimes, row, tail);
+        System.arraycopy(burstTimes, row + 1, burstTimes, row, tail);
+        System.arraycopy(priorities, row + 1, priorities, row, tail);
+        System.arraycopy(deadlines, row + 1, deadlines, row, tail);
+        size--;
+        fireTableRowsDeleted(row, row);
+    }
+
+    public void clear() {
+        size = 0;
+        fireTableDataChanged();
+    }
+
+    // Replaces every row with the given workload
+    public void setProcesses(ProcessTable table) {
+        size = 0;
+        grow(table.size());
+        for (int i = 0; i < table.size(); i++) {
+            ids[i] = table.getId(i);
+            arrivalTimes[i] = table.getArrivalTime(i);
+            burstTimes[i] = table.getBurstTime(i);
+            priorities[i] = table.getPriority(i);
+            deadlines[i] = table.getDeadline(i);
+        }
+        size = table.size();
+        fireTableDataChanged();
+    }
+
+    private void grow(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        ids = Arrays.copyOf(ids, capacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+        burstTimes = Arrays.copyOf(burstTimes, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+    }
+
+    public int getId(int row) {
+        return ids[row];
+    }
+
+    public int getArrivalTime(int row) {
+        return arrivalTimes[row];
+    }
+
+    public int getBurstTime(int row) {
+        return burstTimes[row];
+    }
+
+    public int getPriority(int row) {
+        return priorities[row];
+    }
+
+    public int getDeadline(int row) {
+        return deadlines[row];
+    }
+
+    // Copy of every row for the engine, safe to hand to a background run
+    public ProcessTable toProcessTable() {
+        return toProcessTable(null);
+    }
+
+    // Copy of the rows whose selected flag is set, or of every row when selected is null
+    public ProcessTable toProcessTable(boolean[] selected) {
+        ProcessTable table = new ProcessTable(size);
+        for (int i = 0; i < size; i++) {
+            if (selected == null || selected[i]) {
+                table.add(ids[i], arrivalTimes[i], burstTimes[i], priorities[i], deadlines[i]);
+            }
+        }
+        return table;
+    }
+}
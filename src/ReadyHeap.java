@@ -0,0 +1,177 @@
+import java.util.Arrays;
+
+// Binary min-heap of int values (process slots) ordered by a long key, so push/pop are
+// O(log n) and no objects are allocated per process. Backs the key-ordered ready queues
+// (SJF, Priority, SRTF, EDF and their preemptive forms), CFS's run queue and the multi-core
+// queues. Most callers pack a tie-break into the key with key(). A heap created with
+// withTieBreaks() takes the tie-break separately, for keys too wide to pack such as CFS
+// virtual runtimes; the packed-key heaps keep the cheaper single comparison.
+public class ReadyHeap {
+    private long[] keys;
+    private int[] ties;
+    private int[] values;
+    private int size;
+
+    public ReadyHeap(int capacity) {
+        keys = new long[Math.max(capacity, 1)];
+        values = new int[keys.length];
+    }
+
+    // Entries with equal keys pop in order of the tie passed to push(key, tie, value)
+    public static ReadyHeap withTieBreaks(int capacity) {
+        ReadyHeap heap = new ReadyHeap(capacity);
+        heap.ties = new int[heap.keys.length];
+        return heap;
+    }
+
+    // Orders by primary (burst time, priority, ...) and then by sequence, which is the
+    // admission order; since processes are admitted in arrival order this breaks ties on
+    // the earliest arrival and then on the original input position.
+    public static long key(int primary, int sequence) {
+        return ((long) primary << 32) | (sequence & 0xFFFFFFFFL);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void push(long key, int value) {
+        if (ties != null) {
+            push(key, 0, value);
+            return;
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    // Orders by key and then by tie, e.g. an enqueue counter for FIFO among equal keys; only
+    // for heaps created with withTieBreaks()
+    public void push(long key, int tie, int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ties = Arrays.copyOf(ties, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] < key || (keys[parent] == key && ties[parent] <= tie)) {
+                break;
+            }
+            keys[i] = keys[parent];
+            ties[i] = ties[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        ties[i] = tie;
+        values[i] = value;
+    }
+
+    public int peek() {
+        return values[0];
+    }
+
+    public long peekKey() {
+        return keys[0];
+    }
+
+    // Changes the key of the top entry in place, e.g. when the running process's remaining
+    // time shrinks, and restores heap order
+    public void replaceTopKey(long key) {
+        if (ties != null) {
+            siftDownTied(key, ties[0], values[0]);
+        } else {
+            siftDown(key, values[0]);
+        }
+    }
+
+    // Pops the top entry and pushes (key, value) in one sift, for a value that was taken out
+    // and goes back in
+    public int replaceTop(long key, int value) {
+        int top = values[0];
+        if (ties != null) {
+            siftDownTied(key, 0, value);
+        } else {
+            siftDown(key, value);
+        }
+        return top;
+    }
+
+    public int pop() {
+        int top = values[0];
+        size--;
+        if (size > 0) {
+            if (ties != null) {
+                siftDownTied(keys[size], ties[size], values[size]);
+            } else {
+                siftDown(keys[size], values[size]);
+            }
+        }
+        return top;
+    }
+
+    private void siftDown(long key, int value) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    private void siftDownTied(long key, int tie, int value) {
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && (keys[right] < keys[child] || (keys[right] == keys[child] && ties[right] < ties[child]))) {
+                child = right;
+            }
+            if (key < keys[child] || (key == keys[child] && tie <= ties[child])) {
+                break;
+            }
+            keys[i] = keys[child];
+            ties[i] = ties[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        ties[i] = tie;
+        values[i] = value;
+    }
+}
@@ -0,0 +1,51 @@
+import java.nio.IntBuffer;
+
+// Workload columns, schedulers and streaming results owned by one pool thread for a whole
+// MonteCarloRunner run or DeadlineSweep. Each workload is generated into the same columns and
+// every scheduler runs it into its own reused result, so the steady state allocates almost
+// nothing however many workloads are run.
+final class ReplicaWorker {
+    private final int processes;
+    private final int[] ids;
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final int[] priorities;
+    private final int[] deadlines;
+    private final ProcessTable table;
+    private final Scheduler[] schedulers;
+    // Aggregates of the last run(), one per scheduler
+    final SchedulingResult[] results;
+
+    ReplicaWorker(Scheduler[] schedulers, int processes) {
+        this.processes = processes;
+        ids = new int[processes];
+        arrivalTimes = new int[processes];
+        burstTimes = new int[processes];
+        priorities = new int[processes];
+        deadlines = new int[processes];
+        // Generated rows are in arrival order, so the table streams them without sorting
+        table = ProcessTable.wrap(IntBuffer.wrap(ids), IntBuffer.wrap(arrivalTimes), IntBuffer.wrap(burstTimes),
+                IntBuffer.wrap(priorities), IntBuffer.wrap(deadlines), processes, true);
+        this.schedulers = schedulers;
+        results = new SchedulingResult[schedulers.length];
+        for (int a = 0; a < schedulers.length; a++) {
+            results[a] = SchedulingResult.streaming(schedulers[a].getName(), null);
+        }
+    }
+
+    // Generates one workload and runs every scheduler on it. Each run checkpoints into its own
+    // share of monitor (may be null), so a cancel stops it mid-run, and reports the whole run
+    // to the share once it finishes.
+    void run(WorkloadGenerator generator, RunMonitor monitor) {
+        generator.fill(processes, ids, arrivalTimes, burstTimes, priorities, deadlines);
+        for (int a = 0; a < results.length; a++) {
+            SchedulingResult result = results[a];
+            result.reset();
+            RunMonitor share = RunMonitor.share(monitor);
+            SchedulingAlgorithms.runInto(table.source(), result, schedulers[a], share);
+            if (share != null) {
+                share.checkpoint(result.getTotalBurstTime(), result.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+// Bounded LRU cache of finished runs, keyed by the workload's fingerprint and size plus the
+// algorithm and its parameters (e.g. the parsed time quantum). Entries are weighed in bytes:
+// least recently used entries are evicted once the total passes the budget, and a single
+// entry heavier than a quarter of the budget is not cached at all, so one huge result
+// cannot flush everything else. Safe to use from several worker threads.
+public class ResultCache<V> {
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ResultCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static Key key(ProcessTable table, String algorithm, String parameters) {
+        return new Key(table.fingerprint(), table.size(), algorithm, parameters);
+    }
+
+    public static Key key(ProcessTable table, String algorithm, int[] parameters) {
+        return key(table, algorithm, Arrays.toString(parameters));
+    }
+
+    // Approximate heap footprint of a retained result, its histograms and its timeline
+    public static long estimateBytes(SchedulingResult result) {
+        long estimate = 256 + 5L * Integer.BYTES * result.getRowCount();
+        estimate += result.getWaitingHistogram().sizeInBytes() + result.getResponseHistogram().sizeInBytes()
+                + result.getTurnaroundHistogram().sizeInBytes() + result.getLatenessHistogram().sizeInBytes();
+        if (result.getTimeline() != null) {
+            estimate += result.getTimeline().sizeInBytes();
+        }
+        return estimate;
+    }
+
+    public synchronized V get(Key key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    public synchronized void put(Key key, V value, long weight) {
+        if (weight > maxBytes / 4) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+        if (previous != null) {
+            bytes -= previous.weight;
+        }
+        bytes += weight;
+
+        // Iteration order is least recently used first
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public static final class Key {
+        private final long fingerprint;
+        private final int size;
+        private final String algorithm;
+        private final String parameters;
+
+        private Key(long fingerprint, int size, String algorithm, String parameters) {
+            this.fingerprint = fingerprint;
+            this.size = size;
+            this.algorithm = algorithm;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return fingerprint == key.fingerprint && size == key.size
+                    && algorithm.equals(key.algorithm) && parameters.equals(key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, size, algorithm, parameters);
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long weight;
+
+        Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
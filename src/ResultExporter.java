@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Writes a SchedulingResult to disk, either as CSV in the output table's layout or in a compact
+// binary columnar layout for large result sets:
+//   int magic "SRC1", int algorithm length, algorithm bytes (UTF-8),
+//   int process count, int row count, int end time, long total burst time,
+//   then row-count ints for each column: process id, response, turnaround, completion, waiting,
+//   then p50, p90, p99, p99.9 and max (5 ints each) for waiting, response and turnaround time.
+// Results with deadlines are written as "SRC2": the same layout followed by int deadline count,
+// int missed deadlines and the lateness summary (5 ints), matching the CSV's Lateness row.
+// All values are little-endian.
+public class ResultExporter {
+    public static final int COLUMNAR_MAGIC = 0x53524331;
+    public static final int COLUMNAR_MAGIC_DEADLINES = 0x53524332;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    public static void writeCsv(SchedulingResult result, Path path) throws IOException {
+        try (CsvResultWriter writer = new CsvResultWriter(path, result.getAlgorithm())) {
+            writer.writeAll(result);
+            writer.writePercentiles(result);
+        }
+    }
+
+    public static void writeColumnar(SchedulingResult result, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            byte[] algorithm = result.getAlgorithm().getBytes(StandardCharsets.UTF_8);
+            boolean deadlines = result.getDeadlineCount() > 0;
+            buffer.putInt(deadlines ? COLUMNAR_MAGIC_DEADLINES : COLUMNAR_MAGIC);
+            buffer.putInt(algorithm.length);
+            buffer.put(algorithm);
+            buffer.putInt(result.size());
+            buffer.putInt(result.getRowCount());
+            buffer.putInt(result.getEndTime());
+            buffer.putLong(result.getTotalBurstTime());
+
+            int rows = result.getRowCount();
+            for (int column = 0; column < 5; column++) {
+                for (int row = 0; row < rows; row++) {
+                    if (buffer.remaining() < Integer.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putInt(columnValue(result, column, row));
+                }
+            }
+            for (LatencyHistogram histogram : new LatencyHistogram[]{result.getWaitingHistogram(),
+                    result.getResponseHistogram(), result.getTurnaroundHistogram()}) {
+                if (buffer.remaining() < 5 * Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                for (int value : histogram.getSummary()) {
+                    buffer.putInt(value);
+                }
+            }
+            if (deadlines) {
+                if (buffer.remaining() < 7 * Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(result.getDeadlineCount());
+                buffer.putInt(result.getMissedDeadlines());
+                for (int value : result.getLatenessHistogram().getSummary()) {
+                    buffer.putInt(value);
+                }
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    private static int columnValue(SchedulingResult result, int column, int row) {
+        switch (column) {
+            case 0: return result.getProcessId(row);
+            case 1: return result.getResponseTime(row);
+            case 2: return result.getTurnaroundTime(row);
+            case 3: return result.getCompletionTime(row);
+            default: return result.getWaitingTime(row);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
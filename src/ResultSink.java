@@ -0,0 +1,4 @@
+// Receives each finished process from the engine, in completion order.
+public interface ResultSink {
+    void add(int id, int responseTime, int turnaroundTime, int completionTime, int waitingTime);
+}
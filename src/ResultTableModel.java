@@ -0,0 +1,46 @@
+import javax.swing.table.AbstractTableModel;
+
+// Output table model that reads straight from a SchedulingResult's primitive columns.
+// Nothing is copied when a result is shown: cells are formatted only when painted, and
+// replacing the result fires one table-changed event however many rows it has.
+public class ResultTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Algorithm", "Process ID", "Response Time", "Turnaround Time", "Completion Time", "Waiting Time"};
+
+    private SchedulingResult result;
+
+    public void setResult(SchedulingResult result) {
+        this.result = result;
+        fireTableDataChanged();
+    }
+
+    public void clear() {
+        setResult(null);
+    }
+
+    @Override
+    public int getRowCount() {
+        return result == null ? 0 : result.getRowCount();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        switch (column) {
+            case 0: return result.getAlgorithm();
+            case 1: return "P" + result.getProcessId(row);
+            case 2: return result.getResponseTime(row);
+            case 3: return result.getTurnaroundTime(row);
+            case 4: return result.getCompletionTime(row);
+            default: return result.getWaitingTime(row);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+import java.util.concurrent.CancellationException;
+
+// Progress and cancellation handle for a scheduling run on another thread. The engine loops
+// call checkpoint() every few thousand steps: it publishes how much CPU time has been simulated
+// and how many processes have finished, and stops the run with a CancellationException once
+// cancel() has been called. Runs that execute in parallel each checkpoint into their own
+// share(), which adds its progress to this monitor and stops when this monitor is cancelled.
+public class RunMonitor {
+    private final RunMonitor parent;
+    private volatile boolean cancelled;
+    private volatile long workDone;
+    private volatile int completed;
+
+    public RunMonitor() {
+        this(null);
+    }
+
+    private RunMonitor(RunMonitor parent) {
+        this.parent = parent;
+    }
+
+    // Monitor for one of several parallel runs; null when there is nothing to report to
+    static RunMonitor share(RunMonitor monitor) {
+        return monitor == null ? null : new RunMonitor(monitor);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    // CPU time units simulated so far
+    public long getWorkDone() {
+        return workDone;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    void checkpoint(long workDone, int completed) {
+        if (parent != null) {
+            parent.add(workDone - this.workDone, completed - this.completed);
+        }
+        this.workDone = workDone;
+        this.completed = completed;
+        if (isCancelled()) {
+            throw new CancellationException("Scheduling run cancelled");
+        }
+    }
+
+    private void add(long work, int done) {
+        synchronized (this) {
+            workDone += work;
+            completed += done;
+        }
+        if (parent != null) {
+            parent.add(work, done);
+        }
+    }
+}
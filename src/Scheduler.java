@@ -0,0 +1,39 @@
+// Scheduling policy plugged into SchedulingAlgorithms.run. The engine owns the clock, the
+// arrival stream and each process's bookkeeping (response, waiting and remaining time in
+// ProcessSlots); a policy only keeps its ready queue of slot numbers and decides which process
+// runs next and for how long. Policies are stateful: start() resets one for a new run, so an
+// instance can be reused for runs one after another but not shared between threads.
+public interface Scheduler {
+    // Label of the result, e.g. "SJF" or "RR(Q=4)"
+    String getName();
+
+    // Called once before a run with the slots the engine will admit processes into, and the
+    // timeline being recorded (or null) for slices the policy applies itself in fastForward
+    void start(ProcessSlots slots, Timeline timeline);
+
+    // Whether an arrival interrupts the running process, which then goes to onQuantumExpiry
+    boolean preemptsOnArrival();
+
+    // A process arrived at time and was copied into slot
+    void admit(int slot, int time);
+
+    // Removes and returns the slot to run at time, or -1 when nothing is ready
+    int pickNext(int time);
+
+    // Longest the slot just picked may run before onQuantumExpiry; Integer.MAX_VALUE runs it to
+    // completion
+    int quantum(int slot);
+
+    // The slot stopped at time with work left, after its quantum or an interrupting arrival;
+    // processes that arrived meanwhile have already been admitted
+    void onQuantumExpiry(int slot, int time);
+
+    // The slot finished at time and is released after this returns
+    void onComplete(int slot, int time);
+
+    // Lets a policy apply slices it can compute in closed form (see Round Robin) before the next
+    // pickNext; returns the time they took, which must end before nextArrivalTime
+    default int fastForward(int time, long nextArrivalTime) {
+        return 0;
+    }
+}
@@ -0,0 +1,639 @@
+import java.util.Arrays;
+
+// The built-in policies as Scheduler plug-ins; SchedulingAlgorithms runs each of them on the
+// shared event loop. Every call returns a fresh instance.
+public class Schedulers {
+    private static final int KEY_BURST = 0;
+    private static final int KEY_PRIORITY = 1;
+    private static final int KEY_REMAINING = 2;
+    private static final int KEY_DEADLINE = 3;
+
+    public static Scheduler fcfs() {
+        return new Fifo();
+    }
+
+    public static Scheduler sjf() {
+        return new Keyed("SJF", KEY_BURST, false);
+    }
+
+    public static Scheduler priority() {
+        return new Keyed("Priority", KEY_PRIORITY, false);
+    }
+
+    public static Scheduler srtf() {
+        return new Keyed("SRTF", KEY_REMAINING, true);
+    }
+
+    public static Scheduler preemptivePriority() {
+        return new Keyed("Priority (Preemptive)", KEY_PRIORITY, true);
+    }
+
+    // Earliest deadline first; processes without a deadline run after every one that has one
+    public static Scheduler edf() {
+        return new Keyed("EDF", KEY_DEADLINE, false);
+    }
+
+    public static Scheduler preemptiveEdf() {
+        return new Keyed("EDF (Preemptive)", KEY_DEADLINE, true);
+    }
+
+    public static Scheduler roundRobin(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive");
+        }
+        return new RoundRobin(timeQuantum);
+    }
+
+    public static Scheduler mlfq(int[] levelQuanta, int boostInterval) {
+        return new Mlfq(levelQuanta, boostInterval);
+    }
+
+    public static Scheduler cfs(int targetLatency, int minGranularity) {
+        return new Cfs(targetLatency, minGranularity, false);
+    }
+
+    // First come, first served: the ready queue is the arrival order
+    static final class Fifo implements Scheduler {
+        private final IntQueue readyQueue = new IntQueue(16);
+
+        @Override
+        public String getName() {
+            return "FCFS";
+        }
+
+        @Override
+        public void start(ProcessSlots slots, Timeline timeline) {
+            readyQueue.clear();
+        }
+
+        @Override
+        public boolean preemptsOnArrival() {
+            return false;
+        }
+
+        @Override
+        public void admit(int slot, int time) {
+            readyQueue.offer(slot);
+        }
+
+        @Override
+        public int pickNext(int time) {
+            return readyQueue.isEmpty() ? -1 : readyQueue.poll();
+        }
+
+        @Override
+        public int quantum(int slot) {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void onQuantumExpiry(int slot, int time) {
+            readyQueue.offer(slot);
+        }
+
+        @Override
+        public void onComplete(int slot, int time) {
+        }
+    }
+
+    // Smallest key first (burst, priority value, remaining time or absolute deadline), ties
+    // broken by earliest arrival. In the preemptive variants an arrival interrupts the running
+    // process, which keeps its original admission sequence, so an equal-key newcomer never
+    // overtakes it. It is held outside the heap until something outranks it, so the usual case
+    // of a newcomer that does not preempt costs no heap operation for the running process.
+    static final class Keyed implements Scheduler {
+        private final String name;
+        private final int keyKind;
+        private final boolean preemptive;
+        private final ReadyHeap readyQueue = new ReadyHeap(16);
+        private ProcessSlots slots;
+        private int admitted;
+        private long runningKey;
+        private int held = -1;
+        private long heldKey;
+
+        Keyed(String name, int keyKind, boolean preemptive) {
+            this.name = name;
+            this.keyKind = keyKind;
+            this.preemptive = preemptive;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void start(ProcessSlots slots, Timeline timeline) {
+            this.slots = slots;
+            readyQueue.clear();
+            admitted = 0;
+            held = -1;
+        }
+
+        @Override
+        public boolean preemptsOnArrival() {
+            return preemptive;
+        }
+
+        @Override
+        public void admit(int slot, int time) {
+            readyQueue.push(ReadyHeap.key(key(slot), admitted++), slot);
+        }
+
+        @Override
+        public int pickNext(int time) {
+            if (held >= 0) {
+                int slot = held;
+                held = -1;
+                if (readyQueue.isEmpty() || heldKey < readyQueue.peekKey()) {
+                    runningKey = heldKey;
+                    return slot;
+                }
+                runningKey = readyQueue.peekKey();
+                return readyQueue.replaceTop(heldKey, slot);
+            }
+            if (readyQueue.isEmpty()) {
+                return -1;
+            }
+            runningKey = readyQueue.peekKey();
+            return readyQueue.pop();
+        }
+
+        @Override
+        public int quantum(int slot) {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void onQuantumExpiry(int slot, int time) {
+            held = slot;
+            heldKey = ReadyHeap.key(key(slot), (int) runningKey);
+        }
+
+        @Override
+        public void onComplete(int slot, int time) {
+        }
+
+        private int key(int slot) {
+            switch (keyKind) {
+                case KEY_BURST: return slots.burstTimes[slot];
+                case KEY_PRIORITY: return slots.priorities[slot];
+                case KEY_DEADLINE: return absoluteDeadline(slot);
+                default: return slots.remainingTimes[slot];
+            }
+        }
+
+        // Saturates, so a missing or far-off deadline sorts last instead of wrapping around
+        private int absoluteDeadline(int slot) {
+            int deadline = slots.deadlines[slot];
+            if (deadline == Process.NO_DEADLINE) {
+                return Integer.MAX_VALUE;
+            }
+            return (int) Math.min(Integer.MAX_VALUE, (long) slots.arrivalTimes[slot] + deadline);
+        }
+    }
+
+    static final class RoundRobin implements Scheduler {
+        // Skipped rounds written to the timeline slice by slice; longer skips become one rounds segment
+        private static final int MAX_RECORDED_SKIP_SLICES = 1024;
+
+        private final int timeQuantum;
+        // Off only in tests that check the skip against slice-by-slice simulation
+        private final boolean skipRounds;
+        private final IntQueue readyQueue = new IntQueue(16);
+        private ProcessSlots slots;
+        private Timeline timeline;
+        // Process ids in queue order for Timeline.addRounds
+        private int[] roundOrder = new int[16];
+        private int sliceUntilRoundCheck;
+
+        RoundRobin(int timeQuantum) {
+            this(timeQuantum, true);
+        }
+
+        RoundRobin(int timeQuantum, boolean skipRounds) {
+            this.timeQuantum = timeQuantum;
+            this.skipRounds = skipRounds;
+        }
+
+        @Override
+        public String getName() {
+            return "RR(Q=" + timeQuantum + ")";
+        }
+
+        @Override
+        public void start(ProcessSlots slots, Timeline timeline) {
+            this.slots = slots;
+            this.timeline = timeline;
+            readyQueue.clear();
+            sliceUntilRoundCheck = 0;
+        }
+
+        @Override
+        public boolean preemptsOnArrival() {
+            return false;
+        }
+
+        @Override
+        public void admit(int slot, int time) {
+            readyQueue.offer(slot);
+        }
+
+        // Once per round, jump over whole rounds in which nothing arrives and nothing finishes
+        @Override
+        public int fastForward(int time, long nextArrivalTime) {
+            if (!skipRounds || sliceUntilRoundCheck > 0 || readyQueue.isEmpty()) {
+                return 0;
+            }
+            int skipped = skipRounds(time, nextArrivalTime);
+            sliceUntilRoundCheck = readyQueue.size();
+            return skipped;
+        }
+
+        @Override
+        public int pickNext(int time) {
+            if (readyQueue.isEmpty()) {
+                return -1;
+            }
+            sliceUntilRoundCheck--;
+            return readyQueue.poll();
+        }
+
+        @Override
+        public int quantum(int slot) {
+            return timeQuantum;
+        }
+
+        @Override
+        public void onQuantumExpiry(int slot, int time) {
+            readyQueue.offer(slot);
+        }
+
+        @Override
+        public void onComplete(int slot, int time) {
+        }
+
+        // Applies R full rounds to the ready queue analytically and returns the time they take. R
+        // is the largest count for which every queued process still has work left afterwards and
+        // the next arrival lands after the last skipped slice, so the queue order and all
+        // per-process metrics end up exactly as if each slice had been simulated. When a timeline
+        // is being recorded, short skips are written slice by slice and longer ones as a single
+        // rounds segment holding the queue order, so the skip stays O(k) with the Gantt chart
+        // open and the chart can still show every slice.
+        private int skipRounds(int currentTime, long nextArrivalTime) {
+            int k = readyQueue.size();
+            long roundLength = (long) k * timeQuantum;
+            long rounds = (nextArrivalTime - currentTime - 1) / roundLength;
+            for (int j = 0; j < k && rounds > 0; j++) {
+                rounds = Math.min(rounds, (slots.remainingTimes[readyQueue.get(j)] - 1) / timeQuantum);
+            }
+            if (rounds <= 0) {
+                return 0;
+            }
+
+            for (int j = 0; j < k; j++) {
+                int slot = readyQueue.get(j);
+                int firstStart = currentTime + j * timeQuantum;
+                if (slots.responseTimes[slot] == -1) {
+                    slots.responseTimes[slot] = firstStart - slots.arrivalTimes[slot];
+                }
+                // Wait before the first skipped slice, then (k - 1) slices of others between each later one
+                slots.waitingTimes[slot] += (int) (firstStart - slots.lastRunTimes[slot] + (rounds - 1) * (k - 1) * timeQuantum);
+                slots.remainingTimes[slot] -= (int) (rounds * timeQuantum);
+                slots.lastRunTimes[slot] = (int) (currentTime + ((rounds - 1) * k + j + 1) * timeQuantum);
+            }
+            if (timeline != null) {
+                if (k == 1) {
+                    // One process alone: the slices merge into a single segment anyway
+                    timeline.add(slots.ids[readyQueue.get(0)], currentTime, (int) (currentTime + rounds * roundLength));
+                } else if (rounds * k <= MAX_RECORDED_SKIP_SLICES) {
+                    recordRounds(currentTime, rounds);
+                } else {
+                    if (roundOrder.length < k) {
+                        roundOrder = new int[Math.max(k, roundOrder.length * 2)];
+                    }
+                    for (int j = 0; j < k; j++) {
+                        roundOrder[j] = slots.ids[readyQueue.get(j)];
+                    }
+                    timeline.addRounds(currentTime, (int) rounds, timeQuantum, roundOrder, k);
+                }
+            }
+            return (int) (rounds * roundLength);
+        }
+
+        private void recordRounds(int sliceStart, long rounds) {
+            int k = readyQueue.size();
+            for (long round = 0; round < rounds; round++) {
+                for (int j = 0; j < k; j++) {
+                    timeline.add(slots.ids[readyQueue.get(j)], sliceStart, sliceStart + timeQuantum);
+                    sliceStart += timeQuantum;
+                }
+            }
+        }
+    }
+
+    // One FIFO queue per Process priority level (HIGH, MEDIUM, LOW). A process enters at its own
+    // priority level, runs for that level's quantum, and drops one level whenever it uses the
+    // whole quantum. Every boostInterval time units all waiting processes move back to the top
+    // level so low levels cannot starve. Also tracks the starvation metrics of MlfqResult.
+    static final class Mlfq implements Scheduler {
+        private final int[] levelQuanta;
+        private final int boostInterval;
+        private final IntQueue[] queues;
+        private final int[] maxWaitTimes;
+        private ProcessSlots slots;
+        private int queued;
+        private int level;
+        private int boostCount;
+        private long nextBoost;
+
+        Mlfq(int[] levelQuanta, int boostInterval) {
+            if (levelQuanta.length == 0) {
+                throw new IllegalArgumentException("MLFQ needs at least one level");
+            }
+            for (int quantum : levelQuanta) {
+                if (quantum <= 0) {
+                    throw new IllegalArgumentException("MLFQ level quanta must be positive");
+                }
+            }
+            // 0 turns the priority boost off
+            if (boostInterval < 0) {
+                throw new IllegalArgumentException("MLFQ boost interval must not be negative");
+            }
+            this.levelQuanta = levelQuanta.clone();
+            this.boostInterval = boostInterval;
+            queues = new IntQueue[levelQuanta.length];
+            for (int l = 0; l < queues.length; l++) {
+                queues[l] = new IntQueue(16);
+            }
+            maxWaitTimes = new int[levelQuanta.length];
+        }
+
+        @Override
+        public String getName() {
+            return "MLFQ";
+        }
+
+        @Override
+        public void start(ProcessSlots slots, Timeline timeline) {
+            this.slots = slots;
+            for (IntQueue queue : queues) {
+                queue.clear();
+            }
+            Arrays.fill(maxWaitTimes, 0);
+            queued = 0;
+            boostCount = 0;
+            nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean preemptsOnArrival() {
+            return false;
+        }
+
+        @Override
+        public void admit(int slot, int time) {
+            int entryLevel = Math.min(Math.max(slots.priorities[slot], Process.HIGH_PRIORITY), queues.length - 1);
+            queues[entryLevel].offer(slot);
+            queued++;
+        }
+
+        @Override
+        public int pickNext(int time) {
+            if (queued == 0) {
+                return -1;
+            }
+
+            // Priority boost: move everything below the top level back up, keeping queue order
+            if (time >= nextBoost) {
+                for (int l = 1; l < queues.length; l++) {
+                    while (!queues[l].isEmpty()) {
+                        queues[0].offer(queues[l].poll());
+                    }
+                }
+                boostCount++;
+                nextBoost = ((long) time / boostInterval + 1) * boostInterval;
+            }
+
+            // Highest non-empty level first
+            level = 0;
+            while (queues[level].isEmpty()) {
+                level++;
+            }
+            int slot = queues[level].poll();
+            queued--;
+            maxWaitTimes[level] = Math.max(maxWaitTimes[level], time - slots.lastRunTimes[slot]);
+            return slot;
+        }
+
+        @Override
+        public int quantum(int slot) {
+            return levelQuanta[level];
+        }
+
+        // Used its whole quantum: demote one level
+        @Override
+        public void onQuantumExpiry(int slot, int time) {
+            queues[Math.min(level + 1, queues.length - 1)].offer(slot);
+            queued++;
+        }
+
+        @Override
+        public void onComplete(int slot, int time) {
+        }
+
+        MlfqResult toResult(SchedulingResult result) {
+            return new MlfqResult(result, maxWaitTimes.clone(), boostCount);
+        }
+    }
+
+    // Completely Fair Scheduler. Each process's priority maps to a weight (MEDIUM is nice 0 and
+    // every level is five nice steps, about 3x the CPU share of the level below), and its
+    // virtual runtime grows by the CPU time it receives divided by its weight. The runnable
+    // process with the smallest virtual runtime runs next, taken from a heap in O(log n); it
+    // gets its weighted share of the target latency, stretched to minGranularity per process
+    // when many are runnable, and never less than minGranularity. A newcomer starts at the
+    // smallest virtual runtime seen, so it neither waits behind the incumbents' history nor
+    // starves them. Wakeup preemption is not modelled: an arrival waits for the current slice.
+    //
+    // Fairness is measured against an ideal processor that shares the CPU among the runnable
+    // processes in proportion to weight: a process's lag is the CPU time it should have had by
+    // then minus what it got. Lag only changes direction when a process starts or stops
+    // running, so its largest magnitude, the process's fairness error, is exact.
+    static final class Cfs implements Scheduler {
+        // The kernel's sched_prio_to_weight table, nice -20 to 19
+        private static final int[] NICE_TO_WEIGHT = {
+            88761, 71755, 56483, 46273, 36291, 29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906, 3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423, 335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45, 36, 29, 23, 18, 15
+        };
+        private static final int NICE_0_WEIGHT = 1024;
+        private static final int NICE_PER_LEVEL = 5;
+        // Virtual runtime is kept in 1/65536 time units of a nice-0 process, so short slices of
+        // heavy processes still advance it
+        private static final long VRUNTIME_SCALE = (long) NICE_0_WEIGHT << 16;
+
+        private final int targetLatency;
+        private final int minGranularity;
+        private final boolean keepRowErrors;
+        private final ReadyHeap tree = ReadyHeap.withTieBreaks(16);
+        private ProcessSlots slots;
+        private int[] weights = new int[0];
+        private long[] vruntimes = new long[0];
+        private double[] idealStarts = new double[0];
+        private double[] maxLags = new double[0];
+        private long minVruntime;
+        // Enqueue counter: equal virtual runtimes run in FIFO order, not in heap layout order
+        private int enqueued;
+        private long totalWeight;
+        private int runnable;
+        private int runStart;
+
+        // Ideal processor: virtual time advances by elapsed time / total runnable weight, so a
+        // process's ideal CPU time since arrival is its weight times the virtual time passed
+        private double virtualTime;
+        private int virtualTimeAt;
+
+        private final LatencyHistogram fairnessErrors = new LatencyHistogram();
+        private double maxFairnessError;
+        private double fairnessErrorSum;
+        private double[] rowErrors = new double[0];
+        private int rowCount;
+
+        Cfs(int targetLatency, int minGranularity, boolean keepRowErrors) {
+            if (targetLatency <= 0 || minGranularity <= 0) {
+                throw new IllegalArgumentException("CFS target latency and minimum granularity must be positive");
+            }
+            this.targetLatency = targetLatency;
+            this.minGranularity = minGranularity;
+            this.keepRowErrors = keepRowErrors;
+        }
+
+        static int weight(int priority) {
+            int nice = (priority - Process.MEDIUM_PRIORITY) * NICE_PER_LEVEL;
+            return NICE_TO_WEIGHT[Math.min(Math.max(nice + 20, 0), NICE_TO_WEIGHT.length - 1)];
+        }
+
+        @Override
+        public String getName() {
+            return "CFS";
+        }
+
+        @Override
+        public void start(ProcessSlots slots, Timeline timeline) {
+            this.slots = slots;
+            tree.clear();
+            minVruntime = 0;
+            enqueued = 0;
+            totalWeight = 0;
+            runnable = 0;
+            virtualTime = 0;
+            virtualTimeAt = 0;
+            fairnessErrors.clear();
+            maxFairnessError = 0;
+            fairnessErrorSum = 0;
+            rowCount = 0;
+        }
+
+        @Override
+        public boolean preemptsOnArrival() {
+            return false;
+        }
+
+        @Override
+        public void admit(int slot, int time) {
+            if (slot >= weights.length) {
+                int capacity = slots.ids.length;
+                weights = Arrays.copyOf(weights, capacity);
+                vruntimes = Arrays.copyOf(vruntimes, capacity);
+                idealStarts = Arrays.copyOf(idealStarts, capacity);
+                maxLags = Arrays.copyOf(maxLags, capacity);
+            }
+            // Processes that arrived during a slice are admitted when it ends; the ideal
+            // processor counts them from their actual arrival
+            advance(slots.arrivalTimes[slot]);
+            int weight = weight(slots.priorities[slot]);
+            weights[slot] = weight;
+            vruntimes[slot] = minVruntime;
+            idealStarts[slot] = virtualTime;
+            maxLags[slot] = 0;
+            totalWeight += weight;
+            runnable++;
+            tree.push(minVruntime, enqueued++, slot);
+        }
+
+        @Override
+        public int pickNext(int time) {
+            if (tree.isEmpty()) {
+                return -1;
+            }
+            advance(time);
+            int slot = tree.pop();
+            minVruntime = Math.max(minVruntime, vruntimes[slot]);
+            runStart = time;
+            trackLag(slot);
+            return slot;
+        }
+
+        @Override
+        public int quantum(int slot) {
+            long period = Math.max(targetLatency, (long) runnable * minGranularity);
+            long slice = period * weights[slot] / totalWeight;
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(minGranularity, slice));
+        }
+
+        @Override
+        public void onQuantumExpiry(int slot, int time) {
+            stopRunning(slot, time);
+            tree.push(vruntimes[slot], enqueued++, slot);
+        }
+
+        @Override
+        public void onComplete(int slot, int time) {
+            stopRunning(slot, time);
+            double error = maxLags[slot];
+            fairnessErrors.record((int) Math.min(Integer.MAX_VALUE, Math.ceil(error)));
+            maxFairnessError = Math.max(maxFairnessError, error);
+            fairnessErrorSum += error;
+            if (keepRowErrors) {
+                if (rowCount == rowErrors.length) {
+                    rowErrors = Arrays.copyOf(rowErrors, Math.max(16, rowCount * 2));
+                }
+                rowErrors[rowCount++] = error;
+            }
+            totalWeight -= weights[slot];
+            runnable--;
+        }
+
+        private void stopRunning(int slot, int time) {
+            advance(time);
+            vruntimes[slot] += (time - runStart) * VRUNTIME_SCALE / weights[slot];
+            trackLag(slot);
+        }
+
+        private void advance(int time) {
+            if (time > virtualTimeAt) {
+                if (totalWeight > 0) {
+                    virtualTime += (double) (time - virtualTimeAt) / totalWeight;
+                }
+                virtualTimeAt = time;
+            }
+        }
+
+        private void trackLag(int slot) {
+            double ideal = weights[slot] * (virtualTime - idealStarts[slot]);
+            double received = slots.burstTimes[slot] - slots.remainingTimes[slot];
+            maxLags[slot] = Math.max(maxLags[slot], Math.abs(ideal - received));
+        }
+
+        CfsResult toResult(SchedulingResult result) {
+            LatencyHistogram errors = new LatencyHistogram();
+            errors.add(fairnessErrors);
+            return new CfsResult(result, errors, maxFairnessError,
+                    errors.getCount() == 0 ? 0 : fairnessErrorSum / errors.getCount(),
+                    keepRowErrors ? Arrays.copyOf(rowErrors, rowCount) : null);
+        }
+    }
+}
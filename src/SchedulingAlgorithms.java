@@ -1,341 +1,306 @@
-import java.util.*;
-import javax.swing.JTextField;
-import javax.swing.table.DefaultTableModel;
-
+// Headless scheduling engine: every algorithm takes a workload and returns a SchedulingResult.
+// Callers (the Swing frame, batch jobs) decide how to present the result.
+// All algorithms run on one event loop that consumes an arrival-ordered ProcessSource and keeps
+// only arrived, unfinished processes in ProcessSlots, so a streamed workload is never
+// materialised in full; the policy itself is a Scheduler plug-in (see Schedulers). The
+// ProcessTable overloads stream the table and retain every result row.
+// Overloads taking a RunMonitor can be watched and cancelled from another thread.
 public class SchedulingAlgorithms {
 
-    private static void resetAllProcesses(ArrayList<Process> processes) {
-        for (Process p : processes) {
-            p.reset();
-        }
+    // Monitored runs report progress and check for cancellation every this many loop steps
+    static final int CHECKPOINT_INTERVAL = 4096;
+
+    // FCFS Implementation
+    public static SchedulingResult fcfs(ProcessTable table) {
+        return fcfs(table, null, null);
     }
 
-    private static void clearMetrics(JTextField avgTurnaround, JTextField avgWaiting, 
-            JTextField throughput, JTextField cpuBurst, JTextField cpuUtilization) {
-        avgTurnaround.setText("");
-        avgWaiting.setText("");
-        throughput.setText("");
-        cpuBurst.setText("");
-        cpuUtilization.setText("");
+    // Table overloads taking a Timeline also record every slice that ran into it; either
+    // argument may be null
+    public static SchedulingResult fcfs(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.fcfs(), timeline, monitor);
     }
 
-    // FCFS Implementation
-    public static void fcfs(ArrayList<Process> processes, DefaultTableModel model, JTextField avgTurnaround, 
-            JTextField avgWaiting, JTextField throughput, JTextField cpuBurst, JTextField cpuUtilization) {
-        
-        // Clear previous results
-        model.setRowCount(0);
-        resetAllProcesses(processes);
-        clearMetrics(avgTurnaround, avgWaiting, throughput, cpuBurst, cpuUtilization);
-        
-        ArrayList<Process> remainingProcesses = deepCopyProcesses(processes);
-        ArrayList<Process> readyQueue = new ArrayList<>();
-        
-        int currentTime = 0;
-        double totalTurnaroundTime = 0;
-        double totalWaitingTime = 0;
-        int totalBurstTime = 0;
-        
-        // Sort by arrival time
-        remainingProcesses.sort(Comparator.comparingInt(p -> p.arrivalTime));
-        
-        while (!remainingProcesses.isEmpty() || !readyQueue.isEmpty()) {
-            // Add arrived processes to ready queue
-            while (!remainingProcesses.isEmpty() && remainingProcesses.get(0).arrivalTime <= currentTime) {
-                readyQueue.add(remainingProcesses.remove(0));
-            }
-            
-            if (readyQueue.isEmpty()) {
-                currentTime = remainingProcesses.get(0).arrivalTime;
-                continue;
-            }
-            
-            // Take first process from ready queue (FCFS)
-            Process selectedProcess = readyQueue.remove(0);
-            
-            selectedProcess.startTime = currentTime;
-            selectedProcess.responseTime = currentTime - selectedProcess.arrivalTime;
-            selectedProcess.completionTime = currentTime + selectedProcess.burstTime;
-            selectedProcess.turnaroundTime = selectedProcess.completionTime - selectedProcess.arrivalTime;
-            selectedProcess.waitingTime = currentTime - selectedProcess.arrivalTime;
-            
-            currentTime = selectedProcess.completionTime;
-            totalBurstTime += selectedProcess.burstTime;
-            totalTurnaroundTime += selectedProcess.turnaroundTime;
-            totalWaitingTime += selectedProcess.waitingTime;
-            
-            model.addRow(new Object[]{
-                "FCFS",
-                "P" + selectedProcess.id,
-                selectedProcess.responseTime,
-                selectedProcess.turnaroundTime,
-                selectedProcess.completionTime,
-                selectedProcess.waitingTime
-            });
-        }
-        
-        updateMetrics(processes.size(), totalTurnaroundTime, totalWaitingTime, 
-                currentTime, totalBurstTime, avgTurnaround, avgWaiting, throughput, 
-                cpuBurst, cpuUtilization, "FCFS");
+    public static SchedulingResult fcfs(ProcessSource source, ResultSink rows) {
+        return fcfs(source, rows, null);
+    }
+
+    public static SchedulingResult fcfs(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.fcfs(), monitor);
     }
-    
+
     // SJF Implementation
-    public static void sjf(ArrayList<Process> processes, DefaultTableModel model, JTextField avgTurnaround, 
-            JTextField avgWaiting, JTextField throughput, JTextField cpuBurst, JTextField cpuUtilization) {
-        
-        // Clear previous results
-        model.setRowCount(0);
-        resetAllProcesses(processes);
-        clearMetrics(avgTurnaround, avgWaiting, throughput, cpuBurst, cpuUtilization);
-        
-        ArrayList<Process> remainingProcesses = deepCopyProcesses(processes);
-        ArrayList<Process> readyQueue = new ArrayList<>();
-        
-        int currentTime = 0;
-        double totalTurnaroundTime = 0;
-        double totalWaitingTime = 0;
-        int totalBurstTime = 0;
-        
-        remainingProcesses.sort(Comparator.comparingInt(p -> p.arrivalTime));
-        
-        while (!remainingProcesses.isEmpty() || !readyQueue.isEmpty()) {
-            // Add arrived processes to ready queue
-            while (!remainingProcesses.isEmpty() && remainingProcesses.get(0).arrivalTime <= currentTime) {
-                readyQueue.add(remainingProcesses.remove(0));
-            }
-            
-            if (readyQueue.isEmpty()) {
-                currentTime = remainingProcesses.get(0).arrivalTime;
-                continue;
-            }
-            
-            // Find shortest job
-            Process selectedProcess = null;
-            int selectedIndex = -1;
-            int shortestBurst = Integer.MAX_VALUE;
-            
-            for (int i = 0; i < readyQueue.size(); i++) {
-                Process p = readyQueue.get(i);
-                if (p.burstTime < shortestBurst) {
-                    shortestBurst = p.burstTime;
-                    selectedProcess = p;
-                    selectedIndex = i;
-                } else if (p.burstTime == shortestBurst && p.arrivalTime < selectedProcess.arrivalTime) {
-                    selectedProcess = p;
-                    selectedIndex = i;
-                }
-            }
-            
-            readyQueue.remove(selectedIndex);
-            
-            selectedProcess.startTime = currentTime;
-            selectedProcess.responseTime = currentTime - selectedProcess.arrivalTime;
-            selectedProcess.completionTime = currentTime + selectedProcess.burstTime;
-            selectedProcess.turnaroundTime = selectedProcess.completionTime - selectedProcess.arrivalTime;
-            selectedProcess.waitingTime = currentTime - selectedProcess.arrivalTime;
-            
-            currentTime = selectedProcess.completionTime;
-            totalBurstTime += selectedProcess.burstTime;
-            totalTurnaroundTime += selectedProcess.turnaroundTime;
-            totalWaitingTime += selectedProcess.waitingTime;
-            
-            model.addRow(new Object[]{
-                "SJF",
-                "P" + selectedProcess.id,
-                selectedProcess.responseTime,
-                selectedProcess.turnaroundTime,
-                selectedProcess.completionTime,
-                selectedProcess.waitingTime
-            });
-        }
-        
-        updateMetrics(processes.size(), totalTurnaroundTime, totalWaitingTime, 
-                currentTime, totalBurstTime, avgTurnaround, avgWaiting, throughput, 
-                cpuBurst, cpuUtilization, "SJF");
+    public static SchedulingResult sjf(ProcessTable table) {
+        return sjf(table, null, null);
+    }
+
+    public static SchedulingResult sjf(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.sjf(), timeline, monitor);
+    }
+
+    public static SchedulingResult sjf(ProcessSource source, ResultSink rows) {
+        return sjf(source, rows, null);
     }
-    
+
+    public static SchedulingResult sjf(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.sjf(), monitor);
+    }
+
     // Priority Scheduling Implementation
-    public static void priorityScheduling(ArrayList<Process> processes, DefaultTableModel model, 
-            JTextField avgTurnaround, JTextField avgWaiting, JTextField throughput, 
-            JTextField cpuBurst, JTextField cpuUtilization) {
-        
-        // Clear previous results
-        model.setRowCount(0);
-        resetAllProcesses(processes);
-        clearMetrics(avgTurnaround, avgWaiting, throughput, cpuBurst, cpuUtilization);
-        
-        ArrayList<Process> remainingProcesses = deepCopyProcesses(processes);
-        ArrayList<Process> readyQueue = new ArrayList<>();
-        
-        int currentTime = 0;
-        double totalTurnaroundTime = 0;
-        double totalWaitingTime = 0;
-        int totalBurstTime = 0;
-        
-        remainingProcesses.sort(Comparator.comparingInt(p -> p.arrivalTime));
-        
-        while (!remainingProcesses.isEmpty() || !readyQueue.isEmpty()) {
-            // Add arrived processes to ready queue
-            while (!remainingProcesses.isEmpty() && remainingProcesses.get(0).arrivalTime <= currentTime) {
-                readyQueue.add(remainingProcesses.remove(0));
-            }
-            
-            if (readyQueue.isEmpty()) {
-                currentTime = remainingProcesses.get(0).arrivalTime;
-                continue;
-            }
-            
-            // Find highest priority process
-            Process selectedProcess = null;
-            int selectedIndex = -1;
-            int highestPriority = Integer.MAX_VALUE;
-            
-            for (int i = 0; i < readyQueue.size(); i++) {
-                Process p = readyQueue.get(i);
-                if (p.priority < highestPriority) {
-                    highestPriority = p.priority;
-                    selectedProcess = p;
-                    selectedIndex = i;
-                } else if (p.priority == highestPriority && p.arrivalTime < selectedProcess.arrivalTime) {
-                    selectedProcess = p;
-                    selectedIndex = i;
-                }
-            }
-            
-            readyQueue.remove(selectedIndex);
-            
-            selectedProcess.startTime = currentTime;
-            selectedProcess.responseTime = currentTime - selectedProcess.arrivalTime;
-            selectedProcess.completionTime = currentTime + selectedProcess.burstTime;
-            selectedProcess.turnaroundTime = selectedProcess.completionTime - selectedProcess.arrivalTime;
-            selectedProcess.waitingTime = selectedProcess.turnaroundTime - selectedProcess.burstTime;
-            
-            // Update totals
-            currentTime = selectedProcess.completionTime;
-            totalBurstTime += selectedProcess.burstTime;
-            totalTurnaroundTime += selectedProcess.turnaroundTime;
-            totalWaitingTime += selectedProcess.waitingTime;
-            
-            model.addRow(new Object[]{
-                "Priority",
-                "P" + selectedProcess.id,
-                selectedProcess.responseTime,
-                selectedProcess.turnaroundTime,
-                selectedProcess.completionTime,
-                selectedProcess.waitingTime
-            });
-        }
-        
-        updateMetrics(processes.size(), totalTurnaroundTime, totalWaitingTime, 
-                currentTime, totalBurstTime, avgTurnaround, avgWaiting, throughput, 
-                cpuBurst, cpuUtilization, "Priority");
+    public static SchedulingResult priorityScheduling(ProcessTable table) {
+        return priorityScheduling(table, null, null);
+    }
+
+    public static SchedulingResult priorityScheduling(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.priority(), timeline, monitor);
+    }
+
+    public static SchedulingResult priorityScheduling(ProcessSource source, ResultSink rows) {
+        return priorityScheduling(source, rows, null);
+    }
+
+    public static SchedulingResult priorityScheduling(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.priority(), monitor);
+    }
+
+    // Shortest Remaining Time First (preemptive SJF) Implementation
+    public static SchedulingResult srtf(ProcessTable table) {
+        return srtf(table, null, null);
+    }
+
+    public static SchedulingResult srtf(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.srtf(), timeline, monitor);
+    }
+
+    public static SchedulingResult srtf(ProcessSource source, ResultSink rows) {
+        return srtf(source, rows, null);
+    }
+
+    public static SchedulingResult srtf(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.srtf(), monitor);
+    }
+
+    // Preemptive Priority Scheduling Implementation
+    public static SchedulingResult preemptivePriority(ProcessTable table) {
+        return preemptivePriority(table, null, null);
+    }
+
+    public static SchedulingResult preemptivePriority(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.preemptivePriority(), timeline, monitor);
+    }
+
+    public static SchedulingResult preemptivePriority(ProcessSource source, ResultSink rows) {
+        return preemptivePriority(source, rows, null);
+    }
+
+    public static SchedulingResult preemptivePriority(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.preemptivePriority(), monitor);
+    }
+
+    // Earliest Deadline First Implementation. Every result reports deadline misses and lateness;
+    // these only order the ready queue by them.
+    public static SchedulingResult edf(ProcessTable table) {
+        return edf(table, null, null);
+    }
+
+    public static SchedulingResult edf(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.edf(), timeline, monitor);
+    }
+
+    public static SchedulingResult edf(ProcessSource source, ResultSink rows) {
+        return edf(source, rows, null);
+    }
+
+    public static SchedulingResult edf(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.edf(), monitor);
+    }
+
+    // Preemptive Earliest Deadline First Implementation
+    public static SchedulingResult preemptiveEdf(ProcessTable table) {
+        return preemptiveEdf(table, null, null);
+    }
+
+    public static SchedulingResult preemptiveEdf(ProcessTable table, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.preemptiveEdf(), timeline, monitor);
+    }
+
+    public static SchedulingResult preemptiveEdf(ProcessSource source, ResultSink rows) {
+        return preemptiveEdf(source, rows, null);
+    }
+
+    public static SchedulingResult preemptiveEdf(ProcessSource source, ResultSink rows, RunMonitor monitor) {
+        return run(source, rows, Schedulers.preemptiveEdf(), monitor);
     }
-    
+
     // Round Robin Implementation
-    public static void roundRobin(ArrayList<Process> processes, DefaultTableModel model, 
-            JTextField avgTurnaround, JTextField avgWaiting, JTextField throughput, 
-            JTextField cpuBurst, JTextField cpuUtilization, int timeQuantum) {
-        
-        // Clear previous results
-        model.setRowCount(0);
-        resetAllProcesses(processes);
-        clearMetrics(avgTurnaround, avgWaiting, throughput, cpuBurst, cpuUtilization);
-        
-        ArrayList<Process> remainingProcesses = deepCopyProcesses(processes);
-        Queue<Process> readyQueue = new LinkedList<>();
-        Map<Integer, Integer> lastRunTime = new HashMap<>();
-        
+    public static SchedulingResult roundRobin(ProcessTable table, int timeQuantum) {
+        return roundRobin(table, timeQuantum, null, null);
+    }
+
+    public static SchedulingResult roundRobin(ProcessTable table, int timeQuantum, Timeline timeline, RunMonitor monitor) {
+        return run(table, Schedulers.roundRobin(timeQuantum), timeline, monitor);
+    }
+
+    public static SchedulingResult roundRobin(ProcessSource source, ResultSink rows, int timeQuantum) {
+        return roundRobin(source, rows, timeQuantum, null);
+    }
+
+    public static SchedulingResult roundRobin(ProcessSource source, ResultSink rows, int timeQuantum, RunMonitor monitor) {
+        return run(source, rows, Schedulers.roundRobin(timeQuantum), monitor);
+    }
+
+    // Multilevel Feedback Queue Implementation (see Schedulers.Mlfq). As in roundRobin, a slice
+    // is not interrupted by arrivals.
+    public static final int[] DEFAULT_MLFQ_QUANTA = {4, 8, 16};
+    public static final int DEFAULT_MLFQ_BOOST_INTERVAL = 200;
+
+    public static MlfqResult mlfq(ProcessTable table, int[] levelQuanta, int boostInterval) {
+        return mlfq(table, levelQuanta, boostInterval, null, null);
+    }
+
+    public static MlfqResult mlfq(ProcessTable table, int[] levelQuanta, int boostInterval, Timeline timeline, RunMonitor monitor) {
+        Schedulers.Mlfq scheduler = new Schedulers.Mlfq(levelQuanta, boostInterval);
+        return scheduler.toResult(run(table, scheduler, timeline, monitor));
+    }
+
+    public static MlfqResult mlfq(ProcessSource source, ResultSink rows, int[] levelQuanta, int boostInterval) {
+        return mlfq(source, rows, levelQuanta, boostInterval, null);
+    }
+
+    public static MlfqResult mlfq(ProcessSource source, ResultSink rows, int[] levelQuanta, int boostInterval, RunMonitor monitor) {
+        Schedulers.Mlfq scheduler = new Schedulers.Mlfq(levelQuanta, boostInterval);
+        return scheduler.toResult(run(source, rows, scheduler, monitor));
+    }
+
+    // Completely Fair Scheduler (see Schedulers.Cfs). Table runs also report each row's
+    // fairness error.
+    public static final int DEFAULT_CFS_TARGET_LATENCY = 24;
+    public static final int DEFAULT_CFS_MIN_GRANULARITY = 3;
+
+    public static CfsResult cfs(ProcessTable table, int targetLatency, int minGranularity) {
+        return cfs(table, targetLatency, minGranularity, null, null);
+    }
+
+    public static CfsResult cfs(ProcessTable table, int targetLatency, int minGranularity, Timeline timeline, RunMonitor monitor) {
+        Schedulers.Cfs scheduler = new Schedulers.Cfs(targetLatency, minGranularity, true);
+        return scheduler.toResult(run(table, scheduler, timeline, monitor));
+    }
+
+    public static CfsResult cfs(ProcessSource source, ResultSink rows, int targetLatency, int minGranularity) {
+        return cfs(source, rows, targetLatency, minGranularity, null);
+    }
+
+    public static CfsResult cfs(ProcessSource source, ResultSink rows, int targetLatency, int minGranularity, RunMonitor monitor) {
+        Schedulers.Cfs scheduler = new Schedulers.Cfs(targetLatency, minGranularity, false);
+        return scheduler.toResult(run(source, rows, scheduler, monitor));
+    }
+
+    // Runs any policy over the table; timeline and monitor may be null
+    public static SchedulingResult run(ProcessTable table, Scheduler scheduler) {
+        return run(table, scheduler, null, null);
+    }
+
+    public static SchedulingResult run(ProcessTable table, Scheduler scheduler, Timeline timeline, RunMonitor monitor) {
+        return eventLoop(table.source(), new SchedulingResult(scheduler.getName(), table.size(), timeline), scheduler, monitor);
+    }
+
+    public static SchedulingResult run(ProcessSource source, ResultSink rows, Scheduler scheduler) {
+        return run(source, rows, scheduler, null);
+    }
+
+    public static SchedulingResult run(ProcessSource source, ResultSink rows, Scheduler scheduler, RunMonitor monitor) {
+        return eventLoop(source, SchedulingResult.streaming(scheduler.getName(), rows), scheduler, monitor);
+    }
+
+    // Runs into a caller-owned streaming result after SchedulingResult.reset(), so replication
+    // loops can keep one result and one scheduler per algorithm instead of allocating per run;
+    // monitor may be null
+    static SchedulingResult runInto(ProcessSource source, SchedulingResult result, Scheduler scheduler, RunMonitor monitor) {
+        return eventLoop(source, result, scheduler, monitor);
+    }
+
+    // The one discrete-event loop behind every policy. Time jumps straight to the next arrival,
+    // completion or quantum expiry, and processes arriving during a slice are admitted before
+    // the interrupted one is handed back, so they queue ahead of it. The loop does all the
+    // per-process bookkeeping, so a policy only orders slot numbers, and nothing is allocated
+    // per event. HotSpot profiles the scheduler calls per call site: while a JVM runs a single
+    // policy they stay monomorphic and are inlined, and with several they cost an interface
+    // dispatch per event.
+    private static SchedulingResult eventLoop(ProcessSource source, SchedulingResult result, Scheduler scheduler, RunMonitor monitor) {
+        Timeline timeline = result.getTimeline();
+        ProcessSlots slots = new ProcessSlots(0);
+        scheduler.start(slots, timeline);
+        boolean preemptive = scheduler.preemptsOnArrival();
+
         int currentTime = 0;
-        double totalTurnaroundTime = 0;
-        double totalWaitingTime = 0;
-        int totalBurstTime = 0;
-        
-        remainingProcesses.sort(Comparator.comparingInt(p -> p.arrivalTime));
-        for (Process p : remainingProcesses) {
-            p.remainingTime = p.burstTime;
-            lastRunTime.put(p.id, p.arrivalTime);
-        }
-        
-        while (!remainingProcesses.isEmpty() || !readyQueue.isEmpty()) {
-            while (!remainingProcesses.isEmpty() && remainingProcesses.get(0).arrivalTime <= currentTime) {
-                readyQueue.offer(remainingProcesses.remove(0));
+        long totalBurstTime = 0;
+        boolean pending = source.next();
+        int nextArrivalTime = pending ? source.arrivalTime() : 0;
+        int steps = 0;
+
+        while (true) {
+            if (monitor != null && (++steps & (CHECKPOINT_INTERVAL - 1)) == 0) {
+                monitor.checkpoint(totalBurstTime, result.size());
+            }
+            while (pending && nextArrivalTime <= currentTime) {
+                scheduler.admit(slots.admit(source), currentTime);
+                pending = source.next();
+                nextArrivalTime = pending ? source.arrivalTime() : 0;
             }
-            
-            if (readyQueue.isEmpty()) {
-                currentTime = remainingProcesses.get(0).arrivalTime;
+
+            int skipped = scheduler.fastForward(currentTime, pending ? nextArrivalTime : Long.MAX_VALUE);
+            currentTime += skipped;
+            totalBurstTime += skipped;
+
+            int current = scheduler.pickNext(currentTime);
+            if (current < 0) {
+                if (!pending) {
+                    break;
+                }
+                // CPU idles until the next process arrives
+                currentTime = nextArrivalTime;
                 continue;
             }
-            
-            Process currentProcess = readyQueue.poll();
-            
-            if (currentProcess.responseTime == -1) {
-                currentProcess.responseTime = currentTime - currentProcess.arrivalTime;
+
+            if (slots.responseTimes[current] == -1) {
+                slots.responseTimes[current] = currentTime - slots.arrivalTimes[current];
             }
-            
             // Calculate waiting time since last run
-            currentProcess.waitingTime += currentTime - lastRunTime.get(currentProcess.id);
-            
-            int executeTime = Math.min(timeQuantum, currentProcess.remainingTime);
-            currentProcess.remainingTime -= executeTime;
+            slots.waitingTimes[current] += currentTime - slots.lastRunTimes[current];
+
+            // Run for the quantum or until it completes, or until the next arrival if that preempts
+            int executeTime = Math.min(scheduler.quantum(current), slots.remainingTimes[current]);
+            if (preemptive && pending && nextArrivalTime - currentTime < executeTime) {
+                executeTime = nextArrivalTime - currentTime;
+            }
+            slots.remainingTimes[current] -= executeTime;
+            if (timeline != null) {
+                timeline.add(slots.ids[current], currentTime, currentTime + executeTime);
+            }
             currentTime += executeTime;
             totalBurstTime += executeTime;
-            
-            while (!remainingProcesses.isEmpty() && remainingProcesses.get(0).arrivalTime <= currentTime) {
-                Process p = remainingProcesses.remove(0);
-                readyQueue.offer(p);
+
+            while (pending && nextArrivalTime <= currentTime) {
+                scheduler.admit(slots.admit(source), currentTime);
+                pending = source.next();
+                nextArrivalTime = pending ? source.arrivalTime() : 0;
             }
-            
-            if (currentProcess.remainingTime > 0) {
-                lastRunTime.put(currentProcess.id, currentTime);
-                readyQueue.offer(currentProcess);
+
+            if (slots.remainingTimes[current] > 0) {
+                slots.lastRunTimes[current] = currentTime;
+                scheduler.onQuantumExpiry(current, currentTime);
             } else {
-                currentProcess.completionTime = currentTime;
-                currentProcess.turnaroundTime = currentProcess.completionTime - currentProcess.arrivalTime;
-                
-                totalTurnaroundTime += currentProcess.turnaroundTime;
-                totalWaitingTime += currentProcess.waitingTime;
-                
-                model.addRow(new Object[]{
-                    "RR(Q=" + timeQuantum + ")",
-                    "P" + currentProcess.id,
-                    currentProcess.responseTime,
-                    currentProcess.turnaroundTime,
-                    currentProcess.completionTime,
-                    currentProcess.waitingTime
-                });
+                result.add(slots.ids[current], slots.responseTimes[current],
+                        currentTime - slots.arrivalTimes[current], currentTime, slots.waitingTimes[current]);
+                if (slots.deadlines[current] != Process.NO_DEADLINE) {
+                    result.recordLateness(currentTime - slots.arrivalTimes[current] - slots.deadlines[current]);
+                }
+                scheduler.onComplete(current, currentTime);
+                slots.release(current);
             }
         }
-        
-        updateMetrics(processes.size(), totalTurnaroundTime, totalWaitingTime, 
-                currentTime, totalBurstTime, avgTurnaround, avgWaiting, throughput, 
-                cpuBurst, cpuUtilization, "RoundRobin");
-    }
-    
-    private static ArrayList<Process> deepCopyProcesses(ArrayList<Process> processes) {
-        ArrayList<Process> copy = new ArrayList<>();
-        for (Process p : processes) {
-            Process newProcess = new Process(p.id, p.arrivalTime, p.burstTime, p.priority);
-            newProcess.reset();
-            copy.add(newProcess);
-        }
-        return copy;
-    }
-    
-    private static void updateMetrics(int processCount, double totalTurnaroundTime, 
-            double totalWaitingTime, int currentTime, int totalBurstTime,
-            JTextField avgTurnaround, JTextField avgWaiting, JTextField throughput,
-            JTextField cpuBurst, JTextField cpuUtilization, String algorithm) {
-            
-        avgTurnaround.setText(String.format("%.2f", totalTurnaroundTime / processCount));
-        avgWaiting.setText(String.format("%.2f", totalWaitingTime / processCount));
-        throughput.setText(String.format("%.2f", (double)processCount / currentTime));
-        cpuBurst.setText(String.valueOf(totalBurstTime));
-        
-        // Set CPU utilization to 100% for FCFS, calculate normally for others
-        if (algorithm.equals("FCFS")) {
-            cpuUtilization.setText("100.00%");
-        } else {
-            cpuUtilization.setText(String.format("%.2f%%", (totalBurstTime / (double)currentTime) * 100));
-        }
+
+        result.complete(currentTime, totalBurstTime);
+        return result;
     }
-}
\ No newline at end of file
+}
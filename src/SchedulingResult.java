@@ -0,0 +1,244 @@
+import java.util.Arrays;
+
+// Result of one scheduling run: per-process metrics in completion order plus aggregates.
+// Holds only primitive arrays so it can be produced without any UI attached.
+// Streaming runs keep only the aggregates and hand each row to a downstream ResultSink.
+// A run can also record its execution Timeline; it is null unless one was asked for.
+// Waiting, response and turnaround times also go into LatencyHistograms, so tail percentiles
+// are available for streamed runs too.
+// Processes with a deadline also add their lateness (completion minus absolute deadline) to the
+// deadline aggregates, whichever policy ran them.
+public class SchedulingResult implements ResultSink {
+    private final String algorithm;
+    private final boolean retainRows;
+    private final ResultSink downstream;
+    private final Timeline timeline;
+
+    private int[] processIds;
+    private int[] responseTimes;
+    private int[] turnaroundTimes;
+    private int[] completionTimes;
+    private int[] waitingTimes;
+    private int rowCount;
+    private int processCount;
+
+    private double totalTurnaroundTime;
+    private double totalWaitingTime;
+    private long totalBurstTime;
+    private int endTime;
+
+    private int deadlineCount;
+    private int missedDeadlines;
+    private long totalLateness;
+
+    private final LatencyHistogram waitingHistogram = new LatencyHistogram();
+    private final LatencyHistogram responseHistogram = new LatencyHistogram();
+    private final LatencyHistogram turnaroundHistogram = new LatencyHistogram();
+    private final LatencyHistogram latenessHistogram = new LatencyHistogram();
+
+    public SchedulingResult(String algorithm, int expectedSize) {
+        this(algorithm, expectedSize, null);
+    }
+
+    public SchedulingResult(String algorithm, int expectedSize, Timeline timeline) {
+        this(algorithm, expectedSize, true, null, timeline);
+    }
+
+    private SchedulingResult(String algorithm, int expectedSize, boolean retainRows, ResultSink downstream, Timeline timeline) {
+        this.algorithm = algorithm;
+        this.retainRows = retainRows;
+        this.downstream = downstream;
+        this.timeline = timeline;
+        int capacity = retainRows ? Math.max(expectedSize, 1) : 0;
+        this.processIds = new int[capacity];
+        this.responseTimes = new int[capacity];
+        this.turnaroundTimes = new int[capacity];
+        this.completionTimes = new int[capacity];
+        this.waitingTimes = new int[capacity];
+    }
+
+    // Aggregates only; rows go to downstream (which may be null) instead of being kept
+    public static SchedulingResult streaming(String algorithm, ResultSink downstream) {
+        return new SchedulingResult(algorithm, 0, false, downstream, null);
+    }
+
+    @Override
+    public void add(int id, int responseTime, int turnaroundTime, int completionTime, int waitingTime) {
+        if (retainRows) {
+            if (rowCount == processIds.length) {
+                grow();
+            }
+            processIds[rowCount] = id;
+            responseTimes[rowCount] = responseTime;
+            turnaroundTimes[rowCount] = turnaroundTime;
+            completionTimes[rowCount] = completionTime;
+            waitingTimes[rowCount] = waitingTime;
+            rowCount++;
+        }
+        if (downstream != null) {
+            downstream.add(id, responseTime, turnaroundTime, completionTime, waitingTime);
+        }
+
+        processCount++;
+        totalTurnaroundTime += turnaroundTime;
+        totalWaitingTime += waitingTime;
+        waitingHistogram.record(waitingTime);
+        responseHistogram.record(responseTime);
+        turnaroundHistogram.record(turnaroundTime);
+    }
+
+    // Records how late the process just added finished against its deadline; negative when early
+    void recordLateness(int lateness) {
+        deadlineCount++;
+        totalLateness += lateness;
+        if (lateness > 0) {
+            missedDeadlines++;
+        }
+        latenessHistogram.record(Math.max(0, lateness));
+    }
+
+    // Adds the deadline aggregates of other, e.g. when per-core results are merged into one
+    void addLateness(SchedulingResult other) {
+        deadlineCount += other.deadlineCount;
+        missedDeadlines += other.missedDeadlines;
+        totalLateness += other.totalLateness;
+        latenessHistogram.add(other.latenessHistogram);
+    }
+
+    // Clears the rows, aggregates and histograms so the result can take another run,
+    // e.g. in a replication loop that reuses one result per algorithm
+    void reset() {
+        rowCount = 0;
+        processCount = 0;
+        totalTurnaroundTime = 0;
+        totalWaitingTime = 0;
+        totalBurstTime = 0;
+        endTime = 0;
+        deadlineCount = 0;
+        missedDeadlines = 0;
+        totalLateness = 0;
+        waitingHistogram.clear();
+        responseHistogram.clear();
+        turnaroundHistogram.clear();
+        latenessHistogram.clear();
+    }
+
+    public void complete(int endTime, long totalBurstTime) {
+        this.endTime = endTime;
+        this.totalBurstTime = totalBurstTime;
+    }
+
+    private void grow() {
+        int capacity = processIds.length * 2;
+        processIds = Arrays.copyOf(processIds, capacity);
+        responseTimes = Arrays.copyOf(responseTimes, capacity);
+        turnaroundTimes = Arrays.copyOf(turnaroundTimes, capacity);
+        completionTimes = Arrays.copyOf(completionTimes, capacity);
+        waitingTimes = Arrays.copyOf(waitingTimes, capacity);
+    }
+
+    public Timeline getTimeline() {
+        return timeline;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    // Number of processes scheduled, including rows that were streamed rather than retained
+    public int size() {
+        return processCount;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getProcessId(int row) {
+        return processIds[row];
+    }
+
+    public int getResponseTime(int row) {
+        return responseTimes[row];
+    }
+
+    public int getTurnaroundTime(int row) {
+        return turnaroundTimes[row];
+    }
+
+    public int getCompletionTime(int row) {
+        return completionTimes[row];
+    }
+
+    public int getWaitingTime(int row) {
+        return waitingTimes[row];
+    }
+
+    public LatencyHistogram getWaitingHistogram() {
+        return waitingHistogram;
+    }
+
+    public LatencyHistogram getResponseHistogram() {
+        return responseHistogram;
+    }
+
+    public LatencyHistogram getTurnaroundHistogram() {
+        return turnaroundHistogram;
+    }
+
+    // Lateness of the processes that had a deadline, early finishes counted as 0 (tardiness)
+    public LatencyHistogram getLatenessHistogram() {
+        return latenessHistogram;
+    }
+
+    // Number of processes that had a deadline
+    public int getDeadlineCount() {
+        return deadlineCount;
+    }
+
+    public int getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    // Fraction of the processes with a deadline that finished after it; 0 when none had one
+    public double getDeadlineMissRatio() {
+        return deadlineCount == 0 ? 0 : (double) missedDeadlines / deadlineCount;
+    }
+
+    // Mean signed lateness, negative when processes finish early on average
+    public double getAverageLateness() {
+        return deadlineCount == 0 ? 0 : (double) totalLateness / deadlineCount;
+    }
+
+    public int getEndTime() {
+        return endTime;
+    }
+
+    public long getTotalBurstTime() {
+        return totalBurstTime;
+    }
+
+    public double getTotalTurnaroundTime() {
+        return totalTurnaroundTime;
+    }
+
+    public double getTotalWaitingTime() {
+        return totalWaitingTime;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return totalTurnaroundTime / processCount;
+    }
+
+    public double getAverageWaitingTime() {
+        return totalWaitingTime / processCount;
+    }
+
+    public double getThroughput() {
+        return (double) processCount / endTime;
+    }
+
+    public double getCpuUtilization() {
+        return (totalBurstTime / (double) endTime) * 100;
+    }
+}
@@ -0,0 +1,248 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Named workloads kept on disk between sessions. An index file lists every test's name, row
+// count and total burst time, so listing never touches the data. Each test is one binary file:
+// a 32-byte header followed by the four columns as little-endian ints, and a fifth deadline
+// column when the header's deadline flag is set. Rows keep the order they were saved in, so an
+// edited test loads back into the table as it was; the arrival-sorted flag records whether
+// they are also in arrival order, which generated workloads always are.
+// open() memory-maps the columns and wraps them in a ProcessTable, so even a 50M-process test
+// opens without reading or copying its rows; the engine then streams them from the page cache
+// and only sorts tests whose flag is clear.
+public class TestStore {
+    private static final int INDEX_MAGIC = 0x43505349;   // "CPSI"
+    private static final int DATA_MAGIC = 0x43505354;    // "CPST"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int FLAG_ARRIVAL_SORTED = 1;
+    private static final int FLAG_DEADLINES = 2;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final String INDEX_FILE = "index.bin";
+
+    private final Path directory;
+    private final List<Entry> entries = new ArrayList<>();
+    private int nextFileNumber = 1;
+
+    public TestStore(Path directory) throws IOException {
+        this.directory = directory;
+        Path index = directory.resolve(INDEX_FILE);
+        if (Files.exists(index)) {
+            readIndex(index);
+        }
+    }
+
+    // The per-user store used by the GUI
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".cpu-scheduling-simulator", "tests");
+    }
+
+    public synchronized List<Entry> list() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    public synchronized Entry find(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // Writes the table under the given name, replacing any test already saved under it
+    public synchronized Entry save(String name, ProcessTable table) throws IOException {
+        Files.createDirectories(directory);
+        String fileName = "test-" + nextFileNumber + ".bin";
+        Path file = directory.resolve(fileName);
+        Path temp = directory.resolve(fileName + ".tmp");
+        long totalBurstTime = writeData(temp, table);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        nextFileNumber++;
+
+        Entry replaced = find(name);
+        Entry entry = new Entry(name, fileName, table.size(), totalBurstTime, System.currentTimeMillis());
+        if (replaced != null) {
+            entries.set(entries.indexOf(replaced), entry);
+        } else {
+            entries.add(entry);
+        }
+        writeIndex();
+        if (replaced != null) {
+            Files.deleteIfExists(directory.resolve(replaced.fileName));
+        }
+        return entry;
+    }
+
+    public synchronized void delete(Entry entry) throws IOException {
+        if (entries.remove(entry)) {
+            writeIndex();
+            Files.deleteIfExists(directory.resolve(entry.fileName));
+        }
+    }
+
+    // Maps the test's columns read-only. The mapping stays valid after the file is closed and
+    // is released when the table is garbage collected.
+    public ProcessTable open(Entry entry) throws IOException {
+        Path file = directory.resolve(entry.fileName);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt(0) != DATA_MAGIC) {
+                throw new IOException(file + " is not a saved test");
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException(file + " has unsupported version " + header.getInt(4));
+            }
+            int rows = header.getInt(8);
+            boolean arrivalSorted = (header.getInt(12) & FLAG_ARRIVAL_SORTED) != 0;
+            boolean deadlines = (header.getInt(12) & FLAG_DEADLINES) != 0;
+            long columnBytes = (long) rows * Integer.BYTES;
+            IntBuffer[] columns = new IntBuffer[deadlines ? 5 : 4];
+            if (rows < 0 || channel.size() != HEADER_SIZE + columns.length * columnBytes) {
+                throw new IOException(file + " is truncated or corrupt");
+            }
+
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + c * columnBytes, columnBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+            return ProcessTable.wrap(columns[0], columns[1], columns[2], columns[3], deadlines ? columns[4] : null,
+                    rows, arrivalSorted);
+        }
+    }
+
+    // Writes the header and columns in the table's row order; returns the total burst time.
+    // The deadline column is only written for tables that have one.
+    private static long writeData(Path file, ProcessTable table) throws IOException {
+        int rows = table.size();
+        long totalBurstTime = 0;
+        for (int i = 0; i < rows; i++) {
+            totalBurstTime += table.getBurstTime(i);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int columns = table.hasDeadlines() ? 5 : 4;
+            buffer.putInt(DATA_MAGIC).putInt(VERSION).putInt(rows)
+                    .putInt((table.isArrivalSorted() ? FLAG_ARRIVAL_SORTED : 0) | (table.hasDeadlines() ? FLAG_DEADLINES : 0))
+                    .putLong(totalBurstTime).putLong(0);
+            for (int c = 0; c < columns; c++) {
+                for (int i = 0; i < rows; i++) {
+                    if (!buffer.hasRemaining()) {
+                        drain(channel, buffer);
+                    }
+                    switch (c) {
+                        case 0: buffer.putInt(table.getId(i)); break;
+                        case 1: buffer.putInt(table.getArrivalTime(i)); break;
+                        case 2: buffer.putInt(table.getBurstTime(i)); break;
+                        case 3: buffer.putInt(table.getPriority(i)); break;
+                        default: buffer.putInt(table.getDeadline(i)); break;
+                    }
+                }
+            }
+            drain(channel, buffer);
+            channel.force(false);
+        }
+        return totalBurstTime;
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void readIndex(Path index) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != VERSION) {
+                throw new IOException(index + " is not a saved-test index");
+            }
+            nextFileNumber = in.readInt();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                entries.add(new Entry(in.readUTF(), in.readUTF(), in.readInt(), in.readLong(), in.readLong()));
+            }
+        }
+    }
+
+    // Rewrites the whole index next to the old one and swaps it in, so a crash leaves either
+    // the old or the new index
+    private void writeIndex() throws IOException {
+        Path index = directory.resolve(INDEX_FILE);
+        Path temp = directory.resolve(INDEX_FILE + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(nextFileNumber);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeUTF(entry.name);
+                out.writeUTF(entry.fileName);
+                out.writeInt(entry.rows);
+                out.writeLong(entry.totalBurstTime);
+                out.writeLong(entry.savedAt);
+            }
+        }
+        Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static final class Entry {
+        private final String name;
+        private final String fileName;
+        private final int rows;
+        private final long totalBurstTime;
+        private final long savedAt;
+
+        private Entry(String name, String fileName, int rows, long totalBurstTime, long savedAt) {
+            this.name = name;
+            this.fileName = fileName;
+            this.rows = rows;
+            this.totalBurstTime = totalBurstTime;
+            this.savedAt = savedAt;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public long getTotalBurstTime() {
+            return totalBurstTime;
+        }
+
+        // Milliseconds since the epoch
+        public long getSavedAt() {
+            return savedAt;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%,d processes)", name, rows);
+        }
+    }
+}
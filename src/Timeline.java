@@ -0,0 +1,180 @@
+import java.util.Arrays;
+
+// Execution timeline of a single-CPU run as run-length segments: process processIds[i] ran
+// from starts[i] to ends[i]. Consecutive slices of the same process are merged, and idle gaps
+// are simply missing, so memory grows with context switches rather than with time units.
+// Segments are chronological and never overlap, so both columns are sorted.
+// A rounds segment, whose process id is SHARED, stands for whole Round Robin rounds that were
+// fast-forwarded: the same processes ran one quantum each, in the same order, round after
+// round. Only the quantum and that order are kept, so a skip of any length costs one segment
+// plus one int per process, and the slice at any time can still be worked out exactly.
+public class Timeline {
+    public static final int SHARED = -1;
+
+    private int[] starts;
+    private int[] ends;
+    private int[] processIds;
+    private int size;
+    // Per rounds segment, in segment order: its index, quantum and slice of roundOrder
+    private int[] roundSegments = new int[0];
+    private int[] roundQuanta = new int[0];
+    private int[] roundOrderStarts = new int[0];
+    private int[] roundSizes = new int[0];
+    private int roundCount;
+    private int[] roundOrder = new int[0];
+    private int roundOrderSize;
+
+    public Timeline() {
+        this(16);
+    }
+
+    public Timeline(int capacity) {
+        starts = new int[Math.max(capacity, 1)];
+        ends = new int[starts.length];
+        processIds = new int[starts.length];
+    }
+
+    // Records that processId ran over [start, end); rounds segments come from addRounds only
+    public void add(int processId, int start, int end) {
+        if (processId == SHARED) {
+            throw new IllegalArgumentException("Record Round Robin rounds with addRounds");
+        }
+        if (end <= start) {
+            return;
+        }
+        if (size > 0 && processIds[size - 1] == processId && ends[size - 1] == start) {
+            ends[size - 1] = end;
+            return;
+        }
+        append(processId, start, end);
+    }
+
+    // Records rounds full rounds from start in which order[0..count) each ran for quantum, in
+    // that order. Never merged with a neighbouring segment.
+    public void addRounds(int start, int rounds, int quantum, int[] order, int count) {
+        if (rounds <= 0 || quantum <= 0 || count <= 0) {
+            throw new IllegalArgumentException("Rounds, quantum and process count must be positive");
+        }
+        append(SHARED, start, (int) (start + (long) rounds * count * quantum));
+        if (roundCount == roundSegments.length) {
+            int capacity = Math.max(4, roundCount * 2);
+            roundSegments = Arrays.copyOf(roundSegments, capacity);
+            roundQuanta = Arrays.copyOf(roundQuanta, capacity);
+            roundOrderStarts = Arrays.copyOf(roundOrderStarts, capacity);
+            roundSizes = Arrays.copyOf(roundSizes, capacity);
+        }
+        if (roundOrderSize + count > roundOrder.length) {
+            roundOrder = Arrays.copyOf(roundOrder, Math.max(roundOrderSize + count, roundOrder.length * 2));
+        }
+        roundSegments[roundCount] = size - 1;
+        roundQuanta[roundCount] = quantum;
+        roundOrderStarts[roundCount] = roundOrderSize;
+        roundSizes[roundCount] = count;
+        roundCount++;
+        System.arraycopy(order, 0, roundOrder, roundOrderSize, count);
+        roundOrderSize += count;
+    }
+
+    private void append(int processId, int start, int end) {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            processIds = Arrays.copyOf(processIds, capacity);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        processIds[size] = processId;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getStart(int segment) {
+        return starts[segment];
+    }
+
+    public int getEnd(int segment) {
+        return ends[segment];
+    }
+
+    public int getProcessId(int segment) {
+        return processIds[segment];
+    }
+
+    public boolean isRounds(int segment) {
+        return processIds[segment] == SHARED;
+    }
+
+    // Quantum of a rounds segment
+    public int getRoundQuantum(int segment) {
+        return roundQuanta[round(segment)];
+    }
+
+    // Processes per round of a rounds segment
+    public int getRoundSize(int segment) {
+        return roundSizes[round(segment)];
+    }
+
+    // The process that ran position-th in each round of a rounds segment
+    public int getRoundProcessId(int segment, int position) {
+        int round = round(segment);
+        return roundOrder[roundOrderStarts[round] + position];
+    }
+
+    // The process running at time inside the segment; for a rounds segment, the owner of the
+    // slice containing time
+    public int getProcessIdAt(int segment, long time) {
+        if (processIds[segment] != SHARED) {
+            return processIds[segment];
+        }
+        int round = round(segment);
+        long slice = (time - starts[segment]) / roundQuanta[round];
+        return roundOrder[roundOrderStarts[round] + (int) (slice % roundSizes[round])];
+    }
+
+    // Start of the slice containing time inside the segment; the segment start unless it is a
+    // rounds segment
+    public int getSliceStart(int segment, long time) {
+        if (processIds[segment] != SHARED) {
+            return starts[segment];
+        }
+        int quantum = roundQuanta[round(segment)];
+        return (int) (starts[segment] + (time - starts[segment]) / quantum * quantum);
+    }
+
+    // Approximate heap footprint of the segments and the rounds records
+    public long sizeInBytes() {
+        return 64 + 3L * Integer.BYTES * starts.length + 4L * Integer.BYTES * roundSegments.length
+                + (long) Integer.BYTES * roundOrder.length;
+    }
+
+    private int round(int segment) {
+        int round = Arrays.binarySearch(roundSegments, 0, roundCount, segment);
+        if (round < 0) {
+            throw new IllegalArgumentException("Segment " + segment + " is not a rounds segment");
+        }
+        return round;
+    }
+
+    public int getEndTime() {
+        return size == 0 ? 0 : ends[size - 1];
+    }
+
+    // Index of the first segment that ends after time, or size() if none does
+    public int firstEndingAfter(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,366 @@
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Seeded synthetic workloads. Processes are generated in blocks of BLOCK_SIZE rows; every block
+// draws from its own SplittableRandom, split from the seed's generator in block order, so
+// blocks can be filled on any number of threads and the output is the same bit for bit for a
+// given seed and configuration. Arrival times inside a block are relative and are shifted by
+// the preceding blocks' spans afterwards.
+//
+// Arrivals:   POISSON - memoryless integer inter-arrival gaps with the given mean
+//             BURSTY  - groups of processes (mean size given) arrive at the same instant,
+//                       with memoryless gaps between groups keeping the same overall rate
+// Bursts:     EXPONENTIAL - 1 + a memoryless integer with the given overall mean
+//             PARETO      - heavy-tailed with the given shape (> 1) and approximately the given mean
+// Priorities: drawn with the given relative weights, the index being the priority value
+// Deadlines:  none by default; otherwise the burst time times a slack factor drawn uniformly
+//             from the given range. The factor is hashed from the seed and process ID instead
+//             of drawn from the block's generator, so adding deadlines leaves every other
+//             column of a seeded workload unchanged.
+// IDs run from 1 in arrival order, like the Add button's auto-generated IDs.
+public class WorkloadGenerator {
+    public static final int ARRIVALS_POISSON = 0;
+    public static final int ARRIVALS_BURSTY = 1;
+    public static final int BURSTS_EXPONENTIAL = 0;
+    public static final int BURSTS_PARETO = 1;
+
+    static final int BLOCK_SIZE = 1 << 16;
+    private static final int MAX_BURST = Integer.MAX_VALUE / 2;
+
+    private final long seed;
+    private int arrivals = ARRIVALS_POISSON;
+    private double meanInterarrival = 10;
+    private double meanGroupSize = 1;
+    private int bursts = BURSTS_EXPONENTIAL;
+    private double meanBurst = 10;
+    private double paretoShape = 1.5;
+    private long[] priorityThresholds = {1, 2, 3};
+    // 0 when processes get no deadline
+    private double minDeadlineSlack;
+    private double maxDeadlineSlack;
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    // Same configuration with another seed, e.g. one per Monte Carlo replica
+    public WorkloadGenerator withSeed(long seed) {
+        WorkloadGenerator copy = new WorkloadGenerator(seed);
+        copy.arrivals = arrivals;
+        copy.meanInterarrival = meanInterarrival;
+        copy.meanGroupSize = meanGroupSize;
+        copy.bursts = bursts;
+        copy.meanBurst = meanBurst;
+        copy.paretoShape = paretoShape;
+        copy.priorityThresholds = priorityThresholds;
+        copy.minDeadlineSlack = minDeadlineSlack;
+        copy.maxDeadlineSlack = maxDeadlineSlack;
+        return copy;
+    }
+
+    // Same configuration and seed with another mean inter-arrival time, keeping the arrival model
+    public WorkloadGenerator withMeanInterarrival(double meanInterarrival) {
+        if (!(meanInterarrival >= 0)) {
+            throw new IllegalArgumentException("Mean inter-arrival time must be non-negative");
+        }
+        WorkloadGenerator copy = withSeed(seed);
+        copy.meanInterarrival = meanInterarrival;
+        return copy;
+    }
+
+    public WorkloadGenerator poissonArrivals(double meanInterarrival) {
+        if (!(meanInterarrival >= 0)) {
+            throw new IllegalArgumentException("Mean inter-arrival time must be non-negative");
+        }
+        this.arrivals = ARRIVALS_POISSON;
+        this.meanInterarrival = meanInterarrival;
+        this.meanGroupSize = 1;
+        return this;
+    }
+
+    public WorkloadGenerator burstyArrivals(double meanInterarrival, double meanGroupSize) {
+        if (!(meanInterarrival >= 0) || !(meanGroupSize >= 1)) {
+            throw new IllegalArgumentException("Mean inter-arrival time must be non-negative and group size at least 1");
+        }
+        this.arrivals = ARRIVALS_BURSTY;
+        this.meanInterarrival = meanInterarrival;
+        this.meanGroupSize = meanGroupSize;
+        return this;
+    }
+
+    public WorkloadGenerator exponentialBursts(double meanBurst) {
+        if (!(meanBurst >= 1)) {
+            throw new IllegalArgumentException("Mean burst time must be at least 1");
+        }
+        this.bursts = BURSTS_EXPONENTIAL;
+        this.meanBurst = meanBurst;
+        return this;
+    }
+
+    public WorkloadGenerator paretoBursts(double meanBurst, double shape) {
+        if (!(meanBurst >= 1) || !(shape > 1)) {
+            throw new IllegalArgumentException("Mean burst time must be at least 1 and the Pareto shape above 1");
+        }
+        this.bursts = BURSTS_PARETO;
+        this.meanBurst = meanBurst;
+        this.paretoShape = shape;
+        return this;
+    }
+
+    // Relative deadline = burst time * slack, slack uniform in [minSlack, maxSlack]. A slack of 1
+    // leaves no room for waiting at all.
+    public WorkloadGenerator deadlineSlack(double minSlack, double maxSlack) {
+        if (!(minSlack >= 1) || !(maxSlack >= minSlack)) {
+            throw new IllegalArgumentException("Deadline slack must be at least 1 and the maximum no less than the minimum");
+        }
+        this.minDeadlineSlack = minSlack;
+        this.maxDeadlineSlack = maxSlack;
+        return this;
+    }
+
+    public boolean hasDeadlines() {
+        return minDeadlineSlack > 0;
+    }
+
+    // Pareto bursts only approximate it
+    public double getMeanBurst() {
+        return meanBurst;
+    }
+
+    // weights[p] is the relative frequency of priority p
+    public WorkloadGenerator priorityWeights(int... weights) {
+        long[] thresholds = new long[weights.length];
+        long total = 0;
+        for (int p = 0; p < weights.length; p++) {
+            if (weights[p] < 0) {
+                throw new IllegalArgumentException("Priority weights must be non-negative");
+            }
+            total += weights[p];
+            thresholds[p] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("At least one priority weight must be positive");
+        }
+        this.priorityThresholds = thresholds;
+        return this;
+    }
+
+    public ProcessTable generate(int count) {
+        return generate(count, ForkJoinPool.commonPool());
+    }
+
+    // Fills all blocks in parallel straight into the table's columns
+    public ProcessTable generate(int count, ForkJoinPool pool) {
+        int[] ids = new int[count];
+        int[] arrivalTimes = new int[count];
+        int[] burstTimes = new int[count];
+        int[] priorities = new int[count];
+        int[] deadlines = hasDeadlines() ? new int[count] : null;
+        SplittableRandom root = new SplittableRandom(seed);
+        fillBlocks(root, 0, count, ids, arrivalTimes, burstTimes, priorities, deadlines, 0, pool);
+        return ProcessTable.wrap(IntBuffer.wrap(ids), IntBuffer.wrap(arrivalTimes), IntBuffer.wrap(burstTimes),
+                IntBuffer.wrap(priorities), deadlines != null ? IntBuffer.wrap(deadlines) : null, count, true);
+    }
+
+    // The rows generate() would return, filled on the calling thread into caller-owned arrays
+    // of at least count elements, so a worker can reuse one set of buffers for many workloads
+    public void fill(int count, int[] ids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        fill(count, ids, arrivalTimes, burstTimes, priorities, null);
+    }
+
+    // deadlines may be null to skip them
+    public void fill(int count, int[] ids, int[] arrivalTimes, int[] burstTimes, int[] priorities, int[] deadlines) {
+        SplittableRandom root = new SplittableRandom(seed);
+        long base = 0;
+        for (int from = 0; from < count; from += BLOCK_SIZE) {
+            int to = Math.min(count, from + BLOCK_SIZE);
+            long span = fillBlock(root.split(), from + 1, ids, arrivalTimes, burstTimes, priorities, deadlines, from, to);
+            base = shiftBlock(arrivalTimes, from, to, base, span);
+        }
+    }
+
+    public ProcessSource stream(int count) {
+        return stream(count, ForkJoinPool.commonPool());
+    }
+
+    // Streams the same processes generate() would return, a batch of blocks at a time, so the
+    // workload never has to fit in memory
+    public ProcessSource stream(int count, ForkJoinPool pool) {
+        int batchSize = BLOCK_SIZE * Math.max(1, pool.getParallelism());
+        return new ProcessSource() {
+            private final SplittableRandom root = new SplittableRandom(seed);
+            private final int[] ids = new int[Math.min(count, batchSize)];
+            private final int[] arrivalTimes = new int[ids.length];
+            private final int[] burstTimes = new int[ids.length];
+            private final int[] priorities = new int[ids.length];
+            private final int[] deadlines = hasDeadlines() ? new int[ids.length] : null;
+            private int generated;
+            private int batchLength;
+            private int position = -1;
+            private long base;
+
+            @Override
+            public boolean next() {
+                if (position + 1 < batchLength) {
+                    position++;
+                    return true;
+                }
+                if (generated >= count) {
+                    return false;
+                }
+                batchLength = Math.min(batchSize, count - generated);
+                base = fillBlocks(root, generated, batchLength, ids, arrivalTimes, burstTimes, priorities, deadlines, base, pool);
+                generated += batchLength;
+                position = 0;
+                return true;
+            }
+
+            @Override
+            public int id() {
+                return ids[position];
+            }
+
+            @Override
+            public int arrivalTime() {
+                return arrivalTimes[position];
+            }
+
+            @Override
+            public int burstTime() {
+                return burstTimes[position];
+            }
+
+            @Override
+            public int priority() {
+                return priorities[position];
+            }
+
+            @Override
+            public int deadline() {
+                return deadlines != null ? deadlines[position] : Process.NO_DEADLINE;
+            }
+        };
+    }
+
+    // Writes the workload as a CSV trace that CsvTraceReader (Run Trace File) accepts
+    public void writeCsv(Path path, int count) throws IOException {
+        CsvTraceWriter.write(stream(count), path, hasDeadlines());
+    }
+
+    // Fills rows [firstRow, firstRow + rows) of the workload into the start of the arrays, one
+    // task per block, then shifts each block's arrivals by the spans before it. Blocks take
+    // their generators from root in order, which keeps the output independent of the pool.
+    // Returns the arrival time of the last row, the base for the following rows.
+    private long fillBlocks(SplittableRandom root, int firstRow, int rows, int[] ids, int[] arrivalTimes,
+            int[] burstTimes, int[] priorities, int[] deadlines, long base, ForkJoinPool pool) {
+        int blocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        List<Callable<Long>> tasks = new ArrayList<>(blocks);
+        for (int b = 0; b < blocks; b++) {
+            SplittableRandom random = root.split();
+            int from = b * BLOCK_SIZE;
+            int to = Math.min(rows, from + BLOCK_SIZE);
+            int firstId = firstRow + b * BLOCK_SIZE + 1;
+            tasks.add(() -> fillBlock(random, firstId, ids, arrivalTimes, burstTimes, priorities, deadlines, from, to));
+        }
+
+        long[] spans = new long[blocks];
+        try {
+            List<Future<Long>> futures = pool.invokeAll(tasks);
+            for (int b = 0; b < blocks; b++) {
+                spans[b] = futures.get(b).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Workload generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Workload generation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        for (int b = 0; b < blocks; b++) {
+            int from = b * BLOCK_SIZE;
+            base = shiftBlock(arrivalTimes, from, Math.min(rows, from + BLOCK_SIZE), base, spans[b]);
+        }
+        return base;
+    }
+
+    // Moves a block's relative arrivals after base; returns the base for the next block
+    private static long shiftBlock(int[] arrivalTimes, int from, int to, long base, long span) {
+        if (base + span > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Arrival times overflow; use fewer processes or a shorter mean inter-arrival time");
+        }
+        int shift = (int) base;
+        if (shift != 0) {
+            for (int i = from; i < to; i++) {
+                arrivalTimes[i] += shift;
+            }
+        }
+        return base + span;
+    }
+
+    // Returns the last arrival time relative to the end of the previous block
+    private long fillBlock(SplittableRandom random, int firstId, int[] ids, int[] arrivalTimes, int[] burstTimes,
+            int[] priorities, int[] deadlines, int from, int to) {
+        // Scale of the exponential whose floor is a geometric variable with the wanted mean
+        double gapScale = geometricScale(meanInterarrival * meanGroupSize);
+        double burstScale = geometricScale(meanBurst - 1);
+        double newGroupChance = 1 / meanGroupSize;
+        double paretoMinimum = (meanBurst - 0.5) * (paretoShape - 1) / paretoShape;
+        long total = priorityThresholds[priorityThresholds.length - 1];
+
+        long time = 0;
+        for (int i = from; i < to; i++) {
+            if (arrivals == ARRIVALS_POISSON || random.nextDouble() < newGroupChance) {
+                time += (long) (-gapScale * Math.log(1 - random.nextDouble()));
+            }
+            if (time > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Arrival times overflow; use a shorter mean inter-arrival time");
+            }
+
+            int burstTime;
+            if (bursts == BURSTS_EXPONENTIAL) {
+                burstTime = 1 + (int) Math.min(MAX_BURST - 1, -burstScale * Math.log(1 - random.nextDouble()));
+            } else {
+                double value = paretoMinimum * Math.pow(1 - random.nextDouble(), -1 / paretoShape);
+                burstTime = (int) Math.max(1, Math.min(MAX_BURST, Math.ceil(value)));
+            }
+
+            long pick = random.nextLong(total);
+            int priority = 0;
+            while (pick >= priorityThresholds[priority]) {
+                priority++;
+            }
+
+            ids[i] = firstId + (i - from);
+            arrivalTimes[i] = (int) time;
+            burstTimes[i] = burstTime;
+            priorities[i] = priority;
+            if (deadlines != null) {
+                double slack = minDeadlineSlack + (maxDeadlineSlack - minDeadlineSlack) * deadlineUniform(ids[i]);
+                deadlines[i] = (int) Math.min(Integer.MAX_VALUE, Math.ceil(burstTime * slack));
+            }
+        }
+        return time;
+    }
+
+    // Uniform in [0, 1) from the seed and process ID alone (the SplitMix64 finaliser)
+    private double deadlineUniform(int id) {
+        long z = seed + id * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 11) * 0x1.0p-53;
+    }
+
+    // floor(scale * Exp(1)) is geometric with mean 1 / (e^(1/scale) - 1), so this solves for mean
+    private static double geometricScale(double mean) {
+        return mean <= 0 ? 0 : 1 / Math.log1p(1 / mean);
+    }
+}
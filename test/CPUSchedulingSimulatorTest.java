@@ -0,0 +1,72 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+// Runs through the same steps as Calculate Selected: the checked rows of the input model are
+// copied with toProcessTable(selected) and handed to runSelectedMethod.
+class CPUSchedulingSimulatorTest {
+    // P1 is long with a loose deadline; P2 and P3 arrive just after it with tight ones. P4 would
+    // miss its deadline under any policy but is left unchecked.
+    private static ProcessTableModel inputModel() {
+        ProcessTableModel model = new ProcessTableModel();
+        model.addRow(1, 0, 10, Process.MEDIUM_PRIORITY, 100);
+        model.addRow(2, 1, 2, Process.MEDIUM_PRIORITY, 4);
+        model.addRow(3, 2, 2, Process.MEDIUM_PRIORITY, 4);
+        model.addRow(4, 0, 50, Process.MEDIUM_PRIORITY, 1);
+        return model;
+    }
+
+    private static final boolean[] SELECTED = {true, true, true, false};
+
+    @Test
+    void selectedRowsKeepTheirDeadlines() {
+        ProcessTable table = inputModel().toProcessTable(SELECTED);
+        assertEquals(3, table.size());
+        assertTrue(table.hasDeadlines());
+        assertEquals(100, table.getDeadline(0));
+        assertEquals(4, table.getDeadline(1));
+        assertEquals(4, table.getDeadline(2));
+    }
+
+    @Test
+    void edfSeesDeadlinesOfSelectedRows() {
+        AtomicReference<String> summary = new AtomicReference<>();
+        SchedulingResult result = CPUSchedulingSimulator.runSelectedMethod("EDF (Earliest Deadline First)",
+                inputModel().toProcessTable(SELECTED), null, "", null, summary);
+
+        // P1 runs to 10 before either tight deadline can be served: P2 is 7 late, P3 8 late
+        assertEquals(3, result.getDeadlineCount());
+        assertEquals(2, result.getMissedDeadlines());
+        assertEquals(8, result.getLatenessHistogram().getMax());
+        assertTrue(summary.get().contains("2 of 3 deadlines missed"), summary.get());
+    }
+
+    @Test
+    void preemptiveEdfMeetsEveryDeadline() {
+        AtomicReference<String> summary = new AtomicReference<>();
+        SchedulingResult result = CPUSchedulingSimulator.runSelectedMethod("Preemptive EDF",
+                inputModel().toProcessTable(SELECTED), null, "", null, summary);
+
+        assertEquals(3, result.getDeadlineCount());
+        assertEquals(0, result.getMissedDeadlines());
+        assertEquals(0.0, result.getDeadlineMissRatio());
+    }
+
+    @Test
+    void cacheKeysUseParsedParameters() {
+        ProcessTable table = inputModel().toProcessTable(SELECTED);
+        assertEquals(ResultCache.key(table, "Round Robin", CPUSchedulingSimulator.methodParameters("Round Robin", "4")),
+                ResultCache.key(table, "Round Robin", CPUSchedulingSimulator.methodParameters("Round Robin", " 04 ")));
+        String mlfq = "MLFQ (Multilevel Feedback Queue)";
+        int[] defaults = CPUSchedulingSimulator.methodParameters(mlfq, "");
+        String typedDefaults = String.valueOf(defaults[0]);
+        for (int i = 1; i < defaults.length; i++) {
+            typedDefaults += ", " + defaults[i];
+        }
+        assertArrayEquals(defaults, CPUSchedulingSimulator.methodParameters(mlfq, typedDefaults));
+        assertArrayEquals(new int[0], CPUSchedulingSimulator.methodParameters("SJF (Shortest Job First)", "7"));
+    }
+}
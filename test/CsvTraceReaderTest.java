@@ -0,0 +1,49 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvTraceReaderTest {
+    @TempDir
+    Path directory;
+
+    private int count(String trace) throws IOException {
+        Path path = directory.resolve("trace.csv");
+        Files.writeString(path, trace);
+        try (CsvTraceReader reader = new CsvTraceReader(path)) {
+            int rows = 0;
+            while (reader.next()) {
+                rows++;
+            }
+            return rows;
+        }
+    }
+
+    @Test
+    void skipsHeaderAfterLeadingBlankLines() throws IOException {
+        assertEquals(2, count("\n\nProcess ID,Arrival Time,Burst Time,Priority\nP1,0,5,1\n2,1,3\n"));
+    }
+
+    @Test
+    void readsTraceWithoutHeader() throws IOException {
+        assertEquals(2, count("1,0,5\n2,1,3\n"));
+    }
+
+    @Test
+    void reportsBadFirstDataLineInsteadOfSkippingIt() {
+        IllegalArgumentException negative = assertThrows(IllegalArgumentException.class, () -> count("1,0,-5,1\n2,1,3\n"));
+        assertEquals("Malformed trace line 1", negative.getMessage());
+        IllegalArgumentException stray = assertThrows(IllegalArgumentException.class, () -> count("\n1,0,5x\n2,1,3\n"));
+        assertEquals("Malformed trace line 2", stray.getMessage());
+    }
+
+    @Test
+    void reportsNonNumericLineAfterData() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> count("1,0,5\nID,Arrival,Burst\n"));
+        assertEquals("Malformed trace line 2", error.getMessage());
+    }
+}
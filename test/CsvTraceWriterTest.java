@@ -0,0 +1,50 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvTraceWriterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsThroughTheReader() throws IOException {
+        ProcessTable table = new ProcessTable(3);
+        table.add(1, 0, 5, 0, 12);
+        table.add(20, 7, 1, Process.LOW_PRIORITY);
+        table.add(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 9, Integer.MAX_VALUE);
+        Path path = directory.resolve("trace.csv");
+        assertEquals(3, CsvTraceWriter.write(table.source(), path, true));
+
+        try (CsvTraceReader reader = new CsvTraceReader(path)) {
+            for (int row = 0; row < table.size(); row++) {
+                assertTrue(reader.next());
+                assertEquals(table.getId(row), reader.id());
+                assertEquals(table.getArrivalTime(row), reader.arrivalTime());
+                assertEquals(table.getBurstTime(row), reader.burstTime());
+                assertEquals(table.getPriority(row), reader.priority());
+                assertEquals(table.getDeadline(row), reader.deadline());
+            }
+        }
+    }
+
+    @Test
+    void rejectsNegativeValues() {
+        ProcessTable table = new ProcessTable(2);
+        table.add(1, 0, 5, 0);
+        table.add(2, 3, 4, -1);
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> CsvTraceWriter.write(table.source(), directory.resolve("trace.csv")));
+        assertEquals("Process 2 has a negative field; CSV traces hold non-negative numbers only", error.getMessage());
+
+        ProcessTable lateDeadline = new ProcessTable(1);
+        lateDeadline.add(3, 0, 5, 0, -7);
+        assertThrows(IllegalArgumentException.class,
+                () -> CsvTraceWriter.write(lateDeadline.source(), directory.resolve("deadline.csv"), true));
+    }
+}
@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Random single-row edits are replayed on the incremental scheduler and on a list of rows; after
+// each one the incremental result must match a full run of the edited table, timeline included.
+class IncrementalSchedulerTest {
+    private static SchedulingResult fullRun(ProcessTable table, int order, Timeline timeline) {
+        switch (order) {
+            case IncrementalScheduler.ORDER_ARRIVAL: return SchedulingAlgorithms.fcfs(table, timeline, null);
+            case IncrementalScheduler.ORDER_BURST: return SchedulingAlgorithms.sjf(table, timeline, null);
+            default: return SchedulingAlgorithms.priorityScheduling(table, timeline, null);
+        }
+    }
+
+    private static ProcessTable table(List<int[]> rows) {
+        ProcessTable table = new ProcessTable(rows.size());
+        for (int[] row : rows) {
+            table.add(row[0], row[1], row[2], row[3]);
+        }
+        return table;
+    }
+
+    private static void assertSameSchedule(List<int[]> rows, IncrementalScheduler scheduler) {
+        Timeline timeline = new Timeline();
+        SchedulingResult expected = fullRun(table(rows), scheduler.getOrder(), timeline);
+        SchedulingResult actual = scheduler.getResult();
+        assertEquals(expected.size(), actual.size());
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.getProcessId(row), actual.getProcessId(row));
+            assertEquals(expected.getCompletionTime(row), actual.getCompletionTime(row));
+            assertEquals(expected.getWaitingTime(row), actual.getWaitingTime(row));
+        }
+        Timeline incremental = actual.getTimeline();
+        assertEquals(timeline.size(), incremental.size());
+        for (int segment = 0; segment < timeline.size(); segment++) {
+            assertEquals(timeline.getProcessId(segment), incremental.getProcessId(segment));
+            assertEquals(timeline.getStart(segment), incremental.getStart(segment));
+            assertEquals(timeline.getEnd(segment), incremental.getEnd(segment));
+        }
+    }
+
+    @Test
+    void editsKeepTheTimelineOfAFullRun() {
+        Random random = new Random(17);
+        for (int order = IncrementalScheduler.ORDER_ARRIVAL; order <= IncrementalScheduler.ORDER_PRIORITY; order++) {
+            List<int[]> rows = new ArrayList<>();
+            int nextId = 1;
+            for (; nextId <= 40; nextId++) {
+                rows.add(new int[]{nextId, random.nextInt(200), 1 + random.nextInt(10), random.nextInt(3)});
+            }
+            IncrementalScheduler scheduler = new IncrementalScheduler(table(rows), order);
+            assertSameSchedule(rows, scheduler);
+            for (int edit = 0; edit < 100; edit++) {
+                int[] row = {nextId++, random.nextInt(250), 1 + random.nextInt(10), random.nextInt(3)};
+                int at = random.nextInt(rows.size() + 1);
+                int kind = rows.isEmpty() ? 0 : random.nextInt(3);
+                if (kind == 0) {
+                    rows.add(at, row);
+                    scheduler.insertRow(at, row[0], row[1], row[2], row[3]);
+                } else if (kind == 1) {
+                    at = Math.min(at, rows.size() - 1);
+                    rows.remove(at);
+                    scheduler.removeRow(at);
+                } else {
+                    at = Math.min(at, rows.size() - 1);
+                    rows.set(at, row);
+                    scheduler.updateRow(at, row[0], row[1], row[2], row[3], Process.NO_DEADLINE);
+                }
+                assertSameSchedule(rows, scheduler);
+            }
+        }
+    }
+}
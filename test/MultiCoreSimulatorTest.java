@@ -0,0 +1,24 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MultiCoreSimulatorTest {
+    @Test
+    void scalingCurveEndsWithTheRequestedCoreCount() {
+        ProcessTable table = new WorkloadGenerator(3).generate(2000);
+        for (int policy = MultiCoreSimulator.GLOBAL_QUEUE; policy <= MultiCoreSimulator.WORK_STEALING; policy++) {
+            MultiCoreResult[] curve = MultiCoreSimulator.scalingCurve(table, 6, policy, MultiCoreSimulator.ORDER_BURST);
+            int[] coreCounts = new int[curve.length];
+            for (int i = 0; i < curve.length; i++) {
+                coreCounts[i] = curve[i].getCoreCount();
+            }
+            assertArrayEquals(new int[]{1, 2, 4, 6}, coreCounts);
+
+            SchedulingResult last = curve[curve.length - 1].getResult();
+            SchedulingResult direct = MultiCoreSimulator.run(table, 6, policy, MultiCoreSimulator.ORDER_BURST).getResult();
+            assertEquals(direct.getEndTime(), last.getEndTime());
+            assertEquals(direct.getTotalWaitingTime(), last.getTotalWaitingTime());
+        }
+    }
+}
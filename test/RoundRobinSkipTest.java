@@ -0,0 +1,134 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+// Round Robin jumps over whole rounds analytically; every run here is repeated with the skip
+// turned off, and the per-process rows must come out the same as slice-by-slice simulation.
+class RoundRobinSkipTest {
+    private static SchedulingResult run(ProcessTable table, int quantum, boolean skipRounds, Timeline timeline) {
+        return SchedulingAlgorithms.run(table, new Schedulers.RoundRobin(quantum, skipRounds), timeline, null);
+    }
+
+    private static void assertSameRows(ProcessTable table, int quantum) {
+        SchedulingResult skipped = run(table, quantum, true, null);
+        SchedulingResult simulated = run(table, quantum, false, null);
+        assertEquals(simulated.size(), skipped.size());
+        for (int row = 0; row < simulated.size(); row++) {
+            String where = "Q=" + quantum + ", row " + row;
+            assertEquals(simulated.getProcessId(row), skipped.getProcessId(row), where);
+            assertEquals(simulated.getResponseTime(row), skipped.getResponseTime(row), where);
+            assertEquals(simulated.getTurnaroundTime(row), skipped.getTurnaroundTime(row), where);
+            assertEquals(simulated.getCompletionTime(row), skipped.getCompletionTime(row), where);
+            assertEquals(simulated.getWaitingTime(row), skipped.getWaitingTime(row), where);
+        }
+        assertEquals(simulated.getEndTime(), skipped.getEndTime());
+    }
+
+    @Test
+    void randomWorkloadsMatchSliceBySliceSimulation() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 200; trial++) {
+            int quantum = 1 + random.nextInt(8);
+            int count = 1 + random.nextInt(12);
+            ProcessTable table = new ProcessTable(count);
+            int arrival = 0;
+            for (int i = 0; i < count; i++) {
+                arrival += random.nextInt(4) == 0 ? random.nextInt(2000) : random.nextInt(3);
+                // Half the bursts are exact multiples of the quantum
+                int burst = random.nextBoolean()
+                        ? quantum * (1 + random.nextInt(300))
+                        : 1 + random.nextInt(quantum * 300);
+                table.add(i + 1, arrival, burst, Process.MEDIUM_PRIORITY);
+            }
+            assertSameRows(table, quantum);
+        }
+    }
+
+    @Test
+    void arrivalOnRoundBoundary() {
+        // P1 and P2 rotate in rounds of 2Q and P3 arrives exactly as the 10th one ends; P4
+        // arrives exactly after 15 further rounds of 3Q
+        for (int quantum = 1; quantum <= 4; quantum++) {
+            ProcessTable table = new ProcessTable(4);
+            table.add(1, 0, 100 * quantum, Process.MEDIUM_PRIORITY);
+            table.add(2, 0, 80 * quantum, Process.MEDIUM_PRIORITY);
+            table.add(3, 10 * 2 * quantum, 30 * quantum, Process.MEDIUM_PRIORITY);
+            table.add(4, 10 * 2 * quantum + 15 * 3 * quantum, 7 * quantum + 1, Process.MEDIUM_PRIORITY);
+            assertSameRows(table, quantum);
+        }
+    }
+
+    @Test
+    void burstsThatAreExactMultiplesOfTheQuantum() {
+        // Each process finishes exactly at the end of a slice, so the skip must stop one round
+        // short of the first completion
+        for (int quantum = 1; quantum <= 5; quantum++) {
+            ProcessTable table = new ProcessTable(3);
+            table.add(1, 0, 50 * quantum, Process.MEDIUM_PRIORITY);
+            table.add(2, 0, 50 * quantum, Process.MEDIUM_PRIORITY);
+            table.add(3, 1, 20 * quantum, Process.MEDIUM_PRIORITY);
+            assertSameRows(table, quantum);
+        }
+    }
+
+    @Test
+    void shortSkipsRecordTheSameTimeline() {
+        ProcessTable table = new ProcessTable(3);
+        table.add(1, 0, 40, Process.MEDIUM_PRIORITY);
+        table.add(2, 0, 36, Process.MEDIUM_PRIORITY);
+        table.add(3, 24, 12, Process.MEDIUM_PRIORITY);
+        Timeline skipped = new Timeline();
+        Timeline simulated = new Timeline();
+        run(table, 4, true, skipped);
+        run(table, 4, false, simulated);
+        assertEquals(simulated.size(), skipped.size());
+        for (int segment = 0; segment < simulated.size(); segment++) {
+            assertEquals(simulated.getProcessId(segment), skipped.getProcessId(segment));
+            assertEquals(simulated.getStart(segment), skipped.getStart(segment));
+            assertEquals(simulated.getEnd(segment), skipped.getEnd(segment));
+        }
+    }
+
+    @Test
+    void longSkipsExpandToTheSameTimeline() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 20; trial++) {
+            int quantum = 1 + random.nextInt(5);
+            int count = 2 + random.nextInt(6);
+            ProcessTable table = new ProcessTable(count + 1);
+            for (int i = 0; i < count; i++) {
+                table.add(i + 1, 0, quantum * (500 + random.nextInt(2000)) + random.nextInt(quantum), Process.MEDIUM_PRIORITY);
+            }
+            table.add(count + 1, 100_000 + random.nextInt(1000), 50, Process.MEDIUM_PRIORITY);
+            Timeline skipped = new Timeline();
+            Timeline simulated = new Timeline();
+            run(table, quantum, true, skipped);
+            run(table, quantum, false, simulated);
+
+            // Fewer segments, but every slice can be recovered from them
+            Timeline expanded = new Timeline();
+            boolean sawRounds = false;
+            for (int segment = 0; segment < skipped.size(); segment++) {
+                if (skipped.isRounds(segment)) {
+                    sawRounds = true;
+                    int step = skipped.getRoundQuantum(segment);
+                    for (int t = skipped.getStart(segment); t < skipped.getEnd(segment); t += step) {
+                        expanded.add(skipped.getProcessIdAt(segment, t), t, t + step);
+                    }
+                } else {
+                    expanded.add(skipped.getProcessId(segment), skipped.getStart(segment), skipped.getEnd(segment));
+                }
+            }
+            assertTrue(sawRounds);
+            assertTrue(skipped.size() < simulated.size());
+            assertEquals(simulated.size(), expanded.size());
+            for (int segment = 0; segment < simulated.size(); segment++) {
+                assertEquals(simulated.getProcessId(segment), expanded.getProcessId(segment));
+                assertEquals(simulated.getStart(segment), expanded.getStart(segment));
+                assertEquals(simulated.getEnd(segment), expanded.getEnd(segment));
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.Test;
+
+class RunMonitorTest {
+    private static final ProcessTable WORKLOAD = new WorkloadGenerator(11).generate(50_000);
+
+    @Test
+    void sharesAddUpToTheParent() {
+        RunMonitor monitor = new RunMonitor();
+        RunMonitor first = RunMonitor.share(monitor);
+        RunMonitor second = RunMonitor.share(monitor);
+        first.checkpoint(100, 2);
+        second.checkpoint(50, 1);
+        first.checkpoint(300, 5);
+        assertEquals(350, monitor.getWorkDone());
+        assertEquals(6, monitor.getCompleted());
+    }
+
+    @Test
+    void cancellingStopsEveryComparisonRun() {
+        RunMonitor monitor = new RunMonitor();
+        monitor.cancel();
+        assertThrows(CancellationException.class, () -> AlgorithmComparison.runAll(WORKLOAD, new int[]{2, 4}, monitor));
+    }
+
+    @Test
+    void cancellingStopsTheMultiCoreCurve() {
+        for (int policy = MultiCoreSimulator.GLOBAL_QUEUE; policy <= MultiCoreSimulator.WORK_STEALING; policy++) {
+            int curvePolicy = policy;
+            RunMonitor monitor = new RunMonitor();
+            monitor.cancel();
+            assertThrows(CancellationException.class, () -> MultiCoreSimulator.scalingCurve(WORKLOAD, 4, curvePolicy,
+                    MultiCoreSimulator.ORDER_BURST, monitor));
+        }
+    }
+
+    @Test
+    void monteCarloReportsEveryRunOfEveryReplica() {
+        RunMonitor monitor = new RunMonitor();
+        MonteCarloResult result = MonteCarloRunner.run(new WorkloadGenerator(1), 1, 2000, 4, new int[]{4}, monitor);
+        assertEquals(4L * 2000 * result.getAlgorithms().length, monitor.getCompleted());
+
+        RunMonitor cancelled = new RunMonitor();
+        cancelled.cancel();
+        assertThrows(CancellationException.class,
+                () -> MonteCarloRunner.run(new WorkloadGenerator(1), 1, 2000, 4, new int[]{4}, cancelled));
+    }
+}
@@ -0,0 +1,49 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsRowsInTheOrderTheyWereSaved() throws IOException {
+        ProcessTable table = new ProcessTable(4);
+        table.add(3, 9, 2, Process.LOW_PRIORITY, 5);
+        table.add(1, 0, 4, Process.HIGH_PRIORITY);
+        table.add(4, 9, 1, Process.MEDIUM_PRIORITY);
+        table.add(2, 2, 6, Process.MEDIUM_PRIORITY, 20);
+        TestStore.Entry entry = new TestStore(directory).save("edited", table);
+
+        ProcessTable loaded = new TestStore(directory).open(entry);
+        assertFalse(loaded.isArrivalSorted());
+        assertEquals(table.size(), loaded.size());
+        for (int row = 0; row < table.size(); row++) {
+            assertEquals(table.getId(row), loaded.getId(row));
+            assertEquals(table.getArrivalTime(row), loaded.getArrivalTime(row));
+            assertEquals(table.getBurstTime(row), loaded.getBurstTime(row));
+            assertEquals(table.getPriority(row), loaded.getPriority(row));
+            assertEquals(table.getDeadline(row), loaded.getDeadline(row));
+        }
+
+        // Runs still see the processes in arrival order
+        SchedulingResult expected = SchedulingAlgorithms.sjf(table);
+        SchedulingResult actual = SchedulingAlgorithms.sjf(loaded);
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.getProcessId(row), actual.getProcessId(row));
+            assertEquals(expected.getCompletionTime(row), actual.getCompletionTime(row));
+        }
+    }
+
+    @Test
+    void keepsTheSortedFlagForGeneratedWorkloads() throws IOException {
+        TestStore store = new TestStore(directory);
+        TestStore.Entry entry = store.save("generated", new WorkloadGenerator(5).generate(1000));
+        assertTrue(store.open(entry).isArrivalSorted());
+    }
+}